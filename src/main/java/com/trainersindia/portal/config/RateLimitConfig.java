@@ -0,0 +1,44 @@
+package com.trainersindia.portal.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Per-endpoint request limits for unauthenticated endpoints that do expensive work.
+ * Each endpoint may limit by client IP, by the email in the request body, or both.
+ */
+@Configuration
+@ConfigurationProperties(prefix = "app.rate-limit")
+@Data
+public class RateLimitConfig {
+    private boolean enabled = true;
+
+    /**
+     * Buckets unused for this long are dropped; a dropped bucket is recreated full.
+     */
+    private Duration idleEviction = Duration.ofMinutes(10);
+
+    private Map<String, Endpoint> endpoints = new LinkedHashMap<>();
+
+    @Data
+    public static class Endpoint {
+        private String path;
+        private Limit ip;
+        private Limit email;
+    }
+
+    /**
+     * Token bucket holding up to {@code capacity} requests, refilled continuously at
+     * {@code refillPerMinute}.
+     */
+    @Data
+    public static class Limit {
+        private int capacity;
+        private int refillPerMinute;
+    }
+}
@@ -1,18 +1,72 @@
 package com.trainersindia.portal.controller.admin;
 
+import com.trainersindia.portal.dto.AdminMetricsResponse;
+import com.trainersindia.portal.dto.ExportFormat;
+import com.trainersindia.portal.search.JobSearchCache;
+import com.trainersindia.portal.security.PasswordHashingExecutor;
+import com.trainersindia.portal.service.AdminMetricsService;
+import com.trainersindia.portal.service.ApplicationCountService;
+import com.trainersindia.portal.service.ExportService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/v1/admin")
 @PreAuthorize("hasRole('ROLE_ADMIN')")
+@RequiredArgsConstructor
 public class AdminDashboardController {
 
-    @GetMapping("/dashboard")
-    public ResponseEntity<?> getDashboard() {
-        return ResponseEntity.ok("Admin Dashboard - Manage users and system settings");
+    private final JobSearchCache jobSearchCache;
+    private final ExportService exportService;
+    private final AdminMetricsService adminMetricsService;
+    private final ApplicationCountService applicationCountService;
+    private final PasswordHashingExecutor passwordHashingExecutor;
+
+    /**
+     * Platform metrics from the hourly rollup, summed per day over the last {@code days} days.
+     */
+    @GetMapping({"/dashboard", "/metrics"})
+    public ResponseEntity<AdminMetricsResponse> getDashboard(@RequestParam(defaultValue = "30") int days) {
+        return ResponseEntity.ok(adminMetricsService.getMetrics(days));
+    }
+
+    @GetMapping("/export/posts")
+    public ResponseEntity<StreamingResponseBody> exportPosts(@RequestParam(defaultValue = "NDJSON") ExportFormat format) {
+        return format.attachment("posts", exportService.exportPosts(null, format));
+    }
+
+    @GetMapping("/export/applications")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(required = false) Long postId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format
+    ) {
+        return format.attachment("applications", exportService.exportApplications(null, postId, format));
+    }
+
+    @GetMapping("/cache/job-search")
+    public ResponseEntity<JobSearchCache.Stats> getJobSearchCacheStats() {
+        return ResponseEntity.ok(jobSearchCache.stats());
+    }
+
+    @GetMapping("/password-hashing")
+    public ResponseEntity<PasswordHashingExecutor.Stats> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordHashingExecutor.stats());
+    }
+
+    /**
+     * Recomputes the per-post application counters from job_applications.
+     */
+    @PostMapping("/application-counts/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuildApplicationCounts() {
+        return ResponseEntity.ok(Map.of("counters", applicationCountService.rebuild()));
     }
-} 
\ No newline at end of file
+}
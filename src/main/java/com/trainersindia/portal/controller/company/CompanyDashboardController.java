@@ -1,7 +1,12 @@
 package com.trainersindia.portal.controller.company;
 
+import com.trainersindia.portal.dto.CompanyDashboardResponse;
+import com.trainersindia.portal.security.UserPrincipal;
+import com.trainersindia.portal.service.CompanyDashboardService;
+import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
@@ -9,10 +14,13 @@ import org.springframework.web.bind.annotation.RestController;
 @RestController
 @RequestMapping("/api/v1/company")
 @PreAuthorize("hasRole('ROLE_COMPANY')")
+@RequiredArgsConstructor
 public class CompanyDashboardController {
 
+    private final CompanyDashboardService dashboardService;
+
     @GetMapping("/dashboard")
-    public ResponseEntity<?> getDashboard() {
-        return ResponseEntity.ok("Company Dashboard - Post jobs and manage applications");
+    public ResponseEntity<CompanyDashboardResponse> getDashboard(@AuthenticationPrincipal UserPrincipal userPrincipal) {
+        return ResponseEntity.ok(dashboardService.getDashboard(userPrincipal.getUsername()));
     }
-} 
\ No newline at end of file
+}
@@ -1,16 +1,24 @@
 package com.trainersindia.portal.controller.company;
 
+import com.trainersindia.portal.dto.ApplicationStatusBatchRequest;
+import com.trainersindia.portal.dto.ApplicationStatusBatchResponse;
+import com.trainersindia.portal.dto.ExportFormat;
 import com.trainersindia.portal.dto.JobApplicationResponse;
 import com.trainersindia.portal.entity.ApplicationStatus;
 import com.trainersindia.portal.security.UserPrincipal;
+import com.trainersindia.portal.service.ExportService;
 import com.trainersindia.portal.service.JobApplicationService;
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
-
-import java.util.List;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequestMapping("/api/v1/company/applications")
@@ -19,14 +27,35 @@ import java.util.List;
 public class CompanyJobApplicationController {
 
     private final JobApplicationService applicationService;
+    private final ExportService exportService;
 
+    /**
+     * Applications to one of the company's posts, newest first, optionally filtered
+     * by status.
+     */
     @GetMapping("/posts/{postId}")
-    public ResponseEntity<List<JobApplicationResponse>> getApplicationsForPost(
+    public ResponseEntity<PagedModel<JobApplicationResponse>> getApplicationsForPost(
             @PathVariable Long postId,
+            @RequestParam(required = false) ApplicationStatus status,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(new PagedModel<>(
+                applicationService.getJobApplications(postId, status, userPrincipal.getUsername(), pageable)));
+    }
+
+    /**
+     * Streams applications to the company's posts, or to one post when postId is
+     * given, as NDJSON (default) or CSV.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApplications(
+            @RequestParam(required = false) Long postId,
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
-        List<JobApplicationResponse> applications = applicationService.getJobApplications(postId, userPrincipal.getUsername());
-        return ResponseEntity.ok(applications);
+        return format.attachment("applications",
+                exportService.exportApplications(userPrincipal.getUsername(), postId, format));
     }
 
     @GetMapping("/{id}")
@@ -47,4 +76,16 @@ public class CompanyJobApplicationController {
         JobApplicationResponse application = applicationService.updateStatus(applicationId, status, userPrincipal.getUsername());
         return ResponseEntity.ok(application);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Sets the status of many applications at once. Every pair gets an outcome;
+     * applications of other companies' posts are left untouched.
+     */
+    @PutMapping("/status")
+    public ResponseEntity<ApplicationStatusBatchResponse> updateApplicationStatuses(
+            @Valid @RequestBody ApplicationStatusBatchRequest request,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(applicationService.updateStatuses(request, userPrincipal.getUsername()));
+    }
+}
@@ -1,17 +1,31 @@
 package com.trainersindia.portal.controller.company;
 
+import com.trainersindia.portal.dto.CandidateResponse;
+import com.trainersindia.portal.dto.CompanyPostSummary;
+import com.trainersindia.portal.dto.CursorPage;
+import com.trainersindia.portal.dto.ExportFormat;
+import com.trainersindia.portal.dto.PostImportReport;
 import com.trainersindia.portal.dto.PostRequest;
 import com.trainersindia.portal.entity.Post;
 import com.trainersindia.portal.security.UserPrincipal;
+import com.trainersindia.portal.service.ExportService;
+import com.trainersindia.portal.service.MatchingService;
+import com.trainersindia.portal.service.PostImportService;
 import com.trainersindia.portal.service.PostService;
+import com.trainersindia.portal.util.EntityVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
+import java.io.InputStream;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -23,6 +37,9 @@ import java.util.Map;
 public class CompanyPostController {
 
     private final PostService postService;
+    private final MatchingService matchingService;
+    private final ExportService exportService;
+    private final PostImportService postImportService;
 
     @PostMapping
     public ResponseEntity<Post> createPost(
@@ -33,6 +50,20 @@ public class CompanyPostController {
         return new ResponseEntity<>(post, HttpStatus.CREATED);
     }
 
+    /**
+     * Creates many posts from a JSON array, NDJSON or CSV body and reports the outcome
+     * of every row. Invalid rows are skipped; valid rows are saved in chunks.
+     */
+    @PostMapping(value = "/import",
+            consumes = {MediaType.APPLICATION_JSON_VALUE, MediaType.APPLICATION_NDJSON_VALUE, "text/csv"})
+    public ResponseEntity<PostImportReport> importPosts(
+            @RequestHeader(HttpHeaders.CONTENT_TYPE) MediaType contentType,
+            InputStream body,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(postImportService.importPosts(body, contentType, userPrincipal.getUsername()));
+    }
+
     @PutMapping("/{id}")
     public ResponseEntity<Post> updatePost(
             @PathVariable Long id,
@@ -56,16 +87,45 @@ public class CompanyPostController {
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<Post> getPost(@PathVariable Long id) {
+    public ResponseEntity<Post> getPost(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(postService.getPostVersion(id).etag())) {
+            return null;
+        }
         Post post = postService.getPost(id);
-        return ResponseEntity.ok(post);
+        return EntityVersion.ok(post);
     }
 
     @GetMapping
-    public ResponseEntity<List<Post>> getCompanyPosts(
+    public ResponseEntity<CursorPage<CompanyPostSummary>> getCompanyPosts(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
-        List<Post> posts = postService.getPostsByCompany(userPrincipal.getUsername());
+        CursorPage<CompanyPostSummary> posts = postService.getPostsByCompany(userPrincipal.getUsername(), cursor, size);
         return ResponseEntity.ok(posts);
     }
-} 
\ No newline at end of file
+
+    /**
+     * Streams all of the company's posts as NDJSON (default) or CSV.
+     */
+    @GetMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportPosts(
+            @RequestParam(defaultValue = "NDJSON") ExportFormat format,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return format.attachment("posts", exportService.exportPosts(userPrincipal.getUsername(), format));
+    }
+
+    /**
+     * Trainers best matching one of the company's posts on skills, certifications
+     * and location, best first.
+     */
+    @GetMapping("/{id}/candidates")
+    public ResponseEntity<List<CandidateResponse>> getCandidates(
+            @PathVariable Long id,
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(matchingService.rankCandidates(id, userPrincipal.getUsername(), limit));
+    }
+}
@@ -2,17 +2,20 @@ package com.trainersindia.portal.controller.trainer;
 
 import com.trainersindia.portal.dto.JobApplicationRequest;
 import com.trainersindia.portal.dto.JobApplicationResponse;
+import com.trainersindia.portal.entity.ApplicationStatus;
 import com.trainersindia.portal.security.UserPrincipal;
 import com.trainersindia.portal.service.JobApplicationService;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
-
 @RestController
 @RequestMapping("/api/v1/trainer/applications")
 @PreAuthorize("hasRole('TRAINER')")
@@ -39,12 +42,17 @@ public class TrainerJobApplicationController {
         return ResponseEntity.ok(application);
     }
 
+    /**
+     * The trainer's applications, newest first, optionally filtered by status.
+     */
     @GetMapping
-    public ResponseEntity<List<JobApplicationResponse>> getMyApplications(
+    public ResponseEntity<PagedModel<JobApplicationResponse>> getMyApplications(
+            @RequestParam(required = false) ApplicationStatus status,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable,
             @AuthenticationPrincipal UserPrincipal userPrincipal
     ) {
-        List<JobApplicationResponse> applications = applicationService.getTrainerApplications(userPrincipal.getUsername());
-        return ResponseEntity.ok(applications);
+        return ResponseEntity.ok(new PagedModel<>(
+                applicationService.getTrainerApplications(userPrincipal.getUsername(), status, pageable)));
     }
 
     @GetMapping("/{id}")
@@ -1,11 +1,26 @@
 package com.trainersindia.portal.controller.trainer;
 
+import com.trainersindia.portal.dto.CursorPage;
+import com.trainersindia.portal.dto.JobFacetsResponse;
+import com.trainersindia.portal.dto.JobRecommendationResponse;
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.dto.SuggestionResponse;
 import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.search.SuggestionIndex;
+import com.trainersindia.portal.security.UserPrincipal;
+import com.trainersindia.portal.service.MatchingService;
 import com.trainersindia.portal.service.PostService;
+import com.trainersindia.portal.util.EntityVersion;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.web.PageableDefault;
+import org.springframework.data.web.PagedModel;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import java.util.List;
 
@@ -16,33 +31,105 @@ import java.util.List;
 public class TrainerJobController {
 
     private final PostService postService;
+    private final MatchingService matchingService;
 
+    /**
+     * Job listing in one of two modes:
+     * - offset paging with the standard page, size and sort parameters,
+     *   e.g. ?page=0&size=20&sort=createdAt,desc. Sorting is limited to createdAt,
+     *   title, companyName, location, jobType, experienceLevel and
+     *   applicationDeadline; other properties are rejected with 400
+     * - keyset paging, newest first, when a cursor parameter is present. Start with
+     *   ?cursor= and keep passing back the returned nextCursor; deep pages cost the
+     *   same as the first one.
+     */
     @GetMapping
-    public ResponseEntity<List<Post>> getAllJobs(
+    public ResponseEntity<?> getAllJobs(
             @RequestParam(required = false) String location,
             @RequestParam(required = false) String jobType,
             @RequestParam(required = false) String experienceLevel,
-            @RequestParam(required = false) List<String> skills
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(required = false) String cursor,
+            @PageableDefault(size = 20, sort = "createdAt", direction = Sort.Direction.DESC) Pageable pageable
     ) {
-        List<Post> posts = postService.searchJobs(location, jobType, experienceLevel, skills);
-        return ResponseEntity.ok(posts);
+        if (cursor != null) {
+            return ResponseEntity.ok(postService.scrollJobs(
+                    location, jobType, experienceLevel, skills, cursor, pageable.getPageSize()));
+        }
+        return ResponseEntity.ok(new PagedModel<>(
+                postService.searchJobs(location, jobType, experienceLevel, skills, pageable)));
     }
 
+    /**
+     * Counts per location, job type, experience level and top skills for the given
+     * filters, taking the same filter parameters as the job listing.
+     */
+    @GetMapping("/facets")
+    public ResponseEntity<JobFacetsResponse> getJobFacets(
+            @RequestParam(required = false) String location,
+            @RequestParam(required = false) String jobType,
+            @RequestParam(required = false) String experienceLevel,
+            @RequestParam(required = false) List<String> skills,
+            @RequestParam(defaultValue = "10") int topSkills
+    ) {
+        return ResponseEntity.ok(postService.getJobFacets(location, jobType, experienceLevel, skills, topSkills));
+    }
+
+    /**
+     * Open posts ranked by skill overlap with the calling trainer's profile.
+     */
+    @GetMapping("/recommended")
+    public ResponseEntity<List<JobRecommendationResponse>> getRecommendedJobs(
+            @RequestParam(defaultValue = "10") int limit,
+            @AuthenticationPrincipal UserPrincipal userPrincipal
+    ) {
+        return ResponseEntity.ok(matchingService.recommendJobs(userPrincipal.getUsername(), limit));
+    }
+
+    /**
+     * Autocomplete for skills, locations and job titles, most used first. The type
+     * parameter (SKILL, LOCATION or TITLE) restricts suggestions to one kind.
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<SuggestionResponse>> suggest(
+            @RequestParam String prefix,
+            @RequestParam(required = false) SuggestionIndex.Type type,
+            @RequestParam(defaultValue = "10") int limit
+    ) {
+        return ResponseEntity.ok(postService.suggest(prefix, type, limit));
+    }
+
+    /**
+     * Answers 304 Not Modified from a version lookup when the client's If-None-Match
+     * still matches, without loading the post.
+     */
     @GetMapping("/{id}")
-    public ResponseEntity<Post> getJobDetails(@PathVariable Long id) {
+    public ResponseEntity<Post> getJobDetails(@PathVariable Long id, WebRequest webRequest) {
+        if (webRequest.checkNotModified(postService.getPostVersion(id).etag())) {
+            return null;
+        }
         Post post = postService.getPost(id);
-        return ResponseEntity.ok(post);
+        return EntityVersion.ok(post);
     }
 
     @GetMapping("/recent")
-    public ResponseEntity<List<Post>> getRecentJobs() {
-        List<Post> recentPosts = postService.getRecentJobs();
+    public ResponseEntity<CursorPage<PostSummary>> getRecentJobs(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size
+    ) {
+        CursorPage<PostSummary> recentPosts = postService.getRecentJobs(cursor, size);
         return ResponseEntity.ok(recentPosts);
     }
 
+    /**
+     * Keyword search, newest first, paged with the standard page and size parameters
+     * (at most 100 per page). A blank keyword pages through every post.
+     */
     @GetMapping("/search")
-    public ResponseEntity<List<Post>> searchJobs(@RequestParam String keyword) {
-        List<Post> searchResults = postService.searchJobsByKeyword(keyword);
-        return ResponseEntity.ok(searchResults);
+    public ResponseEntity<PagedModel<PostSummary>> searchJobs(
+            @RequestParam String keyword,
+            @PageableDefault(size = 20) Pageable pageable
+    ) {
+        return ResponseEntity.ok(new PagedModel<>(postService.searchJobsByKeyword(keyword, pageable)));
     }
 } 
\ No newline at end of file
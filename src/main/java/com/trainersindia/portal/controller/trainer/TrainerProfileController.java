@@ -4,6 +4,7 @@ import com.trainersindia.portal.dto.TrainerProfileRequest;
 import com.trainersindia.portal.dto.TrainerProfileResponse;
 import com.trainersindia.portal.security.UserPrincipal;
 import com.trainersindia.portal.service.TrainerProfileService;
+import com.trainersindia.portal.util.EntityVersion;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.MediaType;
@@ -11,6 +12,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import org.springframework.web.multipart.MultipartFile;
 
 @RestController
@@ -39,12 +41,20 @@ public class TrainerProfileController {
         return ResponseEntity.ok(profile);
     }
 
+    /**
+     * Answers 304 Not Modified from a version lookup when the client's If-None-Match
+     * still matches, without loading the profile.
+     */
     @GetMapping
     public ResponseEntity<TrainerProfileResponse> getProfile(
-            @AuthenticationPrincipal UserPrincipal userPrincipal
+            @AuthenticationPrincipal UserPrincipal userPrincipal,
+            WebRequest webRequest
     ) {
+        if (webRequest.checkNotModified(profileService.getProfileVersion(userPrincipal.getUsername()).etag())) {
+            return null;
+        }
         TrainerProfileResponse profile = profileService.getProfile(userPrincipal.getUsername());
-        return ResponseEntity.ok(profile);
+        return EntityVersion.ok(profile);
     }
 
     @PostMapping(value = "/picture", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
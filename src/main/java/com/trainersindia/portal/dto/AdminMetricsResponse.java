@@ -0,0 +1,30 @@
+package com.trainersindia.portal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Platform metrics read from the rollup tables. Counts reflect rows up to
+ * {@code rolledUpTo}; {@code perDay} is oldest first and includes empty days.
+ */
+public record AdminMetricsResponse(
+        List<UserCount> users,
+        List<DailyMetrics> perDay,
+        Storage storage,
+        LocalDateTime rolledUpTo
+) {
+
+    /**
+     * Accounts stay unverified until their email address is confirmed.
+     */
+    public record UserCount(String role, boolean verified, long users) {
+    }
+
+    public record DailyMetrics(LocalDate day, long usersRegistered, long postsCreated, long applications,
+                               long filesUploaded, long bytesUploaded) {
+    }
+
+    public record Storage(long files, long bytes) {
+    }
+}
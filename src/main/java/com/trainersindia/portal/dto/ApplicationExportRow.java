@@ -0,0 +1,19 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+
+import java.time.LocalDateTime;
+
+public record ApplicationExportRow(
+        Long id,
+        Long postId,
+        String postTitle,
+        Long trainerId,
+        String trainerName,
+        String trainerEmail,
+        ApplicationStatus status,
+        String coverLetter,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -0,0 +1,10 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+
+/**
+ * The fields needed to authorize and apply a status change without loading the
+ * application or its post.
+ */
+public record ApplicationOwnership(Long applicationId, Long postId, String postedBy, ApplicationStatus status) {
+}
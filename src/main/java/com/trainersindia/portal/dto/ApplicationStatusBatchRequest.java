@@ -0,0 +1,26 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class ApplicationStatusBatchRequest {
+    @NotEmpty(message = "At least one update is required")
+    @Size(max = 500, message = "At most 500 updates per request")
+    private List<@Valid @NotNull Update> updates;
+
+    @Data
+    public static class Update {
+        @NotNull(message = "Application ID is required")
+        private Long applicationId;
+
+        @NotNull(message = "Status is required")
+        private ApplicationStatus status;
+    }
+}
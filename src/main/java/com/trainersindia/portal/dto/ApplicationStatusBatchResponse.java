@@ -0,0 +1,25 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+
+import java.util.List;
+
+/**
+ * Per-application outcome of a batch status update, in request order.
+ */
+public record ApplicationStatusBatchResponse(int updated, List<Result> results) {
+
+    public enum Outcome {
+        UPDATED,
+        // Already in the requested status
+        UNCHANGED,
+        // Status changed by another request before this one applied
+        CONFLICT,
+        NOT_FOUND,
+        FORBIDDEN,
+        DUPLICATE
+    }
+
+    public record Result(Long applicationId, ApplicationStatus status, Outcome outcome) {
+    }
+}
@@ -0,0 +1,17 @@
+package com.trainersindia.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CandidateResponse {
+    private TrainerProfileResponse trainer;
+    private double score;
+    private List<String> matchedSkills;
+    private List<String> matchedCertifications;
+}
@@ -0,0 +1,30 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Live statistics for a company's dashboard. {@code applicationsPerDay} covers the
+ * last 30 days, oldest first, including days without applications.
+ */
+public record CompanyDashboardResponse(
+        long openPosts,
+        long expiredPosts,
+        Map<ApplicationStatus, Long> applicationsByStatus,
+        long totalApplications,
+        List<DailyApplications> applicationsPerDay,
+        List<TopPost> topPosts
+) {
+
+    public record DailyApplications(LocalDate day, long applications) {
+    }
+
+    public record TopPost(Long postId, String title, Long applications) {
+    }
+
+    public record StatusCount(ApplicationStatus status, Long applications) {
+    }
+}
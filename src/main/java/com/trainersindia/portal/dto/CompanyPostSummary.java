@@ -0,0 +1,21 @@
+package com.trainersindia.portal.dto;
+
+import com.fasterxml.jackson.annotation.JsonUnwrapped;
+import com.trainersindia.portal.entity.ApplicationStatus;
+
+import java.util.Map;
+
+/**
+ * A post in the company's own listing, with its application counts per status.
+ */
+public record CompanyPostSummary(
+        @JsonUnwrapped PostSummary post,
+        Map<ApplicationStatus, Long> applicationCounts,
+        long totalApplications
+) {
+
+    public static CompanyPostSummary of(PostSummary post, Map<ApplicationStatus, Long> applicationCounts) {
+        long total = applicationCounts.values().stream().mapToLong(Long::longValue).sum();
+        return new CompanyPostSummary(post, applicationCounts, total);
+    }
+}
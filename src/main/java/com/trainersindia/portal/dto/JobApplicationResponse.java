@@ -2,11 +2,15 @@ package com.trainersindia.portal.dto;
 
 import com.trainersindia.portal.entity.JobApplication;
 import com.trainersindia.portal.entity.ApplicationStatus;
+import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 
 import java.time.LocalDateTime;
 
 @Data
+@NoArgsConstructor
+@AllArgsConstructor
 public class JobApplicationResponse {
     private Long id;
     private Long postId;
@@ -0,0 +1,25 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.search.PostFilterIndex;
+import lombok.Data;
+
+import java.util.Map;
+
+@Data
+public class JobFacetsResponse {
+    private long total;
+    private Map<String, Long> locations;
+    private Map<String, Long> jobTypes;
+    private Map<String, Long> experienceLevels;
+    private Map<String, Long> skills;
+
+    public static JobFacetsResponse fromFacets(PostFilterIndex.Facets facets) {
+        JobFacetsResponse response = new JobFacetsResponse();
+        response.setTotal(facets.total());
+        response.setLocations(facets.locations());
+        response.setJobTypes(facets.jobTypes());
+        response.setExperienceLevels(facets.experienceLevels());
+        response.setSkills(facets.skills());
+        return response;
+    }
+}
@@ -0,0 +1,16 @@
+package com.trainersindia.portal.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class JobRecommendationResponse {
+    private PostSummary post;
+    private double score;
+    private List<String> matchedSkills;
+}
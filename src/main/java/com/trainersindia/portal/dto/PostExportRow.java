@@ -0,0 +1,38 @@
+package com.trainersindia.portal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * One exported post. The export query yields one row per (post, skill) pair, ordered
+ * by post id, and consecutive rows of the same post are merged into one record.
+ */
+public record PostExportRow(
+        Long id,
+        String title,
+        String companyName,
+        String location,
+        String jobType,
+        String experienceLevel,
+        String salaryRange,
+        String description,
+        String qualifications,
+        LocalDate applicationDeadline,
+        String contactEmail,
+        String postedBy,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        List<String> skills
+) {
+
+    public PostExportRow(Long id, String title, String companyName, String location, String jobType,
+                         String experienceLevel, String salaryRange, String description, String qualifications,
+                         LocalDate applicationDeadline, String contactEmail, String postedBy,
+                         LocalDateTime createdAt, LocalDateTime updatedAt, String skill) {
+        this(id, title, companyName, location, jobType, experienceLevel, salaryRange, description, qualifications,
+                applicationDeadline, contactEmail, postedBy, createdAt, updatedAt,
+                skill == null ? new ArrayList<>() : new ArrayList<>(List.of(skill)));
+    }
+}
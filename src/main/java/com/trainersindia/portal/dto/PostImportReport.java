@@ -0,0 +1,17 @@
+package com.trainersindia.portal.dto;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk post import: one entry per input row, numbered from 1 in input
+ * order, with the new post id or the reasons the row was rejected.
+ */
+public record PostImportReport(int total, int created, int failed, List<Row> rows) {
+
+    public record Row(int row, Long postId, List<String> errors) {
+
+        public boolean isCreated() {
+            return postId != null;
+        }
+    }
+}
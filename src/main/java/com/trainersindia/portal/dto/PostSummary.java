@@ -0,0 +1,22 @@
+package com.trainersindia.portal.dto;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * List view of a post: everything a job card shows, without the description and
+ * other detail-only columns. The full post is served by the detail endpoints.
+ */
+public record PostSummary(
+        Long id,
+        String title,
+        String companyName,
+        String location,
+        String jobType,
+        String experienceLevel,
+        LocalDate applicationDeadline,
+        LocalDateTime createdAt,
+        List<String> skills
+) {
+}
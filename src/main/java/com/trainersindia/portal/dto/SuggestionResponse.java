@@ -0,0 +1,19 @@
+package com.trainersindia.portal.dto;
+
+import com.trainersindia.portal.search.SuggestionIndex;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class SuggestionResponse {
+    private String text;
+    private SuggestionIndex.Type type;
+    private long weight;
+
+    public static SuggestionResponse fromSuggestion(SuggestionIndex.Suggestion suggestion) {
+        return new SuggestionResponse(suggestion.text(), suggestion.type(), suggestion.weight());
+    }
+}
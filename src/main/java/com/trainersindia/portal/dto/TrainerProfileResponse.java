@@ -1,13 +1,14 @@
 package com.trainersindia.portal.dto;
 
 import com.trainersindia.portal.entity.TrainerProfile;
+import com.trainersindia.portal.util.EntityVersion;
 import lombok.Data;
 
 import java.time.LocalDateTime;
 import java.util.List;
 
 @Data
-public class TrainerProfileResponse {
+public class TrainerProfileResponse implements EntityVersion.Versioned {
     private Long id;
     private String username;
     private String fullName;
@@ -16,7 +16,9 @@ import java.time.LocalDateTime;
 public abstract class BaseEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    // Shared by all BaseEntity tables; ids only need to be unique per table
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "base_entity_seq")
+    @SequenceGenerator(name = "base_entity_seq", sequenceName = "base_entity_seq", allocationSize = 50)
     private Long id;
 
     @CreatedDate
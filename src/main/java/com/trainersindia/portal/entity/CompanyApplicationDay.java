@@ -0,0 +1,39 @@
+package com.trainersindia.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+/**
+ * Number of applications a company received on one day, across all of its posts.
+ * Incremented as applications arrive and rebuilt with the other application counters.
+ */
+@Entity
+@Table(name = "company_application_days")
+@IdClass(CompanyApplicationDay.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CompanyApplicationDay {
+    @Id
+    @Column(name = "posted_by")
+    private String postedBy;
+
+    @Id
+    private LocalDate day;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String postedBy;
+        private LocalDate day;
+    }
+}
@@ -12,7 +12,8 @@ import java.time.LocalDateTime;
 @NoArgsConstructor
 public class EmailVerificationToken {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "email_verification_token_seq")
+    @SequenceGenerator(name = "email_verification_token_seq", sequenceName = "email_verification_token_seq", allocationSize = 50)
     private Long id;
 
     private String email;
@@ -0,0 +1,45 @@
+package com.trainersindia.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * Amount of one platform metric within one hour, optionally split by a dimension
+ * (empty when the metric has none). Written by the admin metrics rollup.
+ */
+@Entity
+@Table(name = "metric_hourly_buckets")
+@IdClass(MetricBucket.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricBucket {
+    @Id
+    @Column(length = 50)
+    private String metric;
+
+    @Id
+    @Column(name = "bucket_start")
+    private LocalDateTime bucketStart;
+
+    @Id
+    @Column(length = 50)
+    private String dimension;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String metric;
+        private LocalDateTime bucketStart;
+        private String dimension;
+    }
+}
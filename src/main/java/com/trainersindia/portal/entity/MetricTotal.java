@@ -0,0 +1,39 @@
+package com.trainersindia.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Running all-time value of one platform metric per dimension, written by the admin
+ * metrics rollup.
+ */
+@Entity
+@Table(name = "metric_totals")
+@IdClass(MetricTotal.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricTotal {
+    @Id
+    @Column(length = 50)
+    private String metric;
+
+    @Id
+    @Column(length = 50)
+    private String dimension;
+
+    @Column(nullable = false)
+    private long amount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private String metric;
+        private String dimension;
+    }
+}
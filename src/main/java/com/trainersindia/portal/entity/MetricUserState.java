@@ -0,0 +1,30 @@
+package com.trainersindia.portal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * The roles and verification state a user was last counted with, so the rollup can
+ * move the user between totals when either changes.
+ */
+@Entity
+@Table(name = "metric_user_states")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricUserState {
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    @Column(nullable = false)
+    private String roles;
+
+    @Column(nullable = false)
+    private boolean verified;
+}
@@ -0,0 +1,32 @@
+package com.trainersindia.portal.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of the admin metrics rollup in one source table: the (timestamp, id) of the
+ * last row it has counted.
+ */
+@Entity
+@Table(name = "metric_watermarks")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MetricWatermark {
+    @Id
+    @Column(length = 50)
+    private String source;
+
+    @Column(name = "last_seen_at", nullable = false)
+    private LocalDateTime lastSeenAt;
+
+    @Column(name = "last_id", nullable = false)
+    private long lastId;
+}
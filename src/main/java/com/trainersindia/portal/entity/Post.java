@@ -1,24 +1,41 @@
 package com.trainersindia.portal.entity;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
+import com.trainersindia.portal.util.EntityVersion;
 import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Locale;
 
 @Entity
-@Table(name = "posts")
+@Table(name = "posts", indexes = {
+        @Index(name = "idx_posts_created_at_id", columnList = "created_at DESC, id DESC"),
+        @Index(name = "idx_posts_posted_by_created_at_id", columnList = "posted_by, created_at DESC, id DESC"),
+        @Index(name = "idx_posts_location_normalized", columnList = "location_normalized"),
+        @Index(name = "idx_posts_job_type_normalized", columnList = "job_type_normalized"),
+        @Index(name = "idx_posts_experience_level_normalized", columnList = "experience_level_normalized")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
-public class Post {
+public class Post implements EntityVersion.Versioned {
+    /**
+     * Each nextval of the sequence reserves this many ids (pooled-lo: value .. value + size - 1).
+     */
+    public static final String ID_SEQUENCE = "posts_seq";
+    public static final int ID_ALLOCATION_SIZE = 50;
+
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = ID_SEQUENCE)
+    @SequenceGenerator(name = ID_SEQUENCE, sequenceName = ID_SEQUENCE, allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -43,6 +60,7 @@ public class Post {
     private String description;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "post_skills", joinColumns = @JoinColumn(name = "post_id"))
     @Column(name = "skill")
     private List<String> skillsRequired;
@@ -66,4 +84,29 @@ public class Post {
     @UpdateTimestamp
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
+
+    // Lower-cased copies of the filterable columns so job search can use plain indexes
+    @JsonIgnore
+    @Column(name = "location_normalized")
+    private String locationNormalized;
+
+    @JsonIgnore
+    @Column(name = "job_type_normalized")
+    private String jobTypeNormalized;
+
+    @JsonIgnore
+    @Column(name = "experience_level_normalized")
+    private String experienceLevelNormalized;
+
+    @PrePersist
+    @PreUpdate
+    void normalizeFilterColumns() {
+        locationNormalized = normalize(location);
+        jobTypeNormalized = normalize(jobType);
+        experienceLevelNormalized = normalize(experienceLevel);
+    }
+
+    public static String normalize(String value) {
+        return value == null ? null : value.trim().toLowerCase(Locale.ROOT);
+    }
 } 
\ No newline at end of file
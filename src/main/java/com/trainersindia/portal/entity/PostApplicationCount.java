@@ -0,0 +1,40 @@
+package com.trainersindia.portal.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.io.Serializable;
+
+/**
+ * Number of applications to a post in one status, kept in step with job_applications
+ * by the application service and rebuilt from it by a periodic reconciliation.
+ */
+@Entity
+@Table(name = "post_application_counts")
+@IdClass(PostApplicationCount.Key.class)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class PostApplicationCount {
+    @Id
+    @Column(name = "post_id")
+    private Long postId;
+
+    @Id
+    @Enumerated(EnumType.STRING)
+    @Column(length = 20)
+    private ApplicationStatus status;
+
+    @Column(name = "application_count", nullable = false)
+    private long applicationCount;
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Key implements Serializable {
+        private Long postId;
+        private ApplicationStatus status;
+    }
+}
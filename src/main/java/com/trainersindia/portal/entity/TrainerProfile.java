@@ -4,6 +4,7 @@ import jakarta.persistence.*;
 import lombok.AllArgsConstructor;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.BatchSize;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -17,7 +18,8 @@ import java.util.List;
 @AllArgsConstructor
 public class TrainerProfile {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "trainer_profiles_seq")
+    @SequenceGenerator(name = "trainer_profiles_seq", sequenceName = "trainer_profiles_seq", allocationSize = 50)
     private Long id;
 
     @OneToOne(fetch = FetchType.LAZY)
@@ -45,6 +47,7 @@ public class TrainerProfile {
     private String experience;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "trainer_skills", joinColumns = @JoinColumn(name = "trainer_id"))
     @Column(name = "skill")
     private List<String> skills;
@@ -52,6 +55,7 @@ public class TrainerProfile {
     private String education;
 
     @ElementCollection
+    @BatchSize(size = 50)
     @CollectionTable(name = "trainer_certifications", joinColumns = @JoinColumn(name = "trainer_id"))
     @Column(name = "certification")
     private List<String> certifications;
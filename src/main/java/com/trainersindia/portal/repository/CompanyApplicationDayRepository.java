@@ -0,0 +1,41 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.entity.CompanyApplicationDay;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface CompanyApplicationDayRepository
+        extends JpaRepository<CompanyApplicationDay, CompanyApplicationDay.Key> {
+
+    List<CompanyApplicationDay> findByPostedByAndDayGreaterThanEqual(String postedBy, LocalDate from);
+
+    @Modifying
+    @Query(value = "INSERT INTO company_application_days (posted_by, day, application_count) "
+            + "VALUES (:postedBy, :day, :delta) "
+            + "ON CONFLICT (posted_by, day) DO UPDATE "
+            + "SET application_count = company_application_days.application_count + EXCLUDED.application_count",
+            nativeQuery = true)
+    void increment(String postedBy, LocalDate day, long delta);
+
+    @Modifying
+    @Query(value = "LOCK TABLE company_application_days IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM company_application_days", nativeQuery = true)
+    void deleteAllCounts();
+
+    @Modifying
+    @Query(value = "INSERT INTO company_application_days (posted_by, day, application_count) "
+            + "SELECT p.posted_by, CAST(a.created_at AS DATE), COUNT(*) "
+            + "FROM job_applications a JOIN posts p ON p.id = a.post_id "
+            + "GROUP BY p.posted_by, CAST(a.created_at AS DATE)",
+            nativeQuery = true)
+    int insertCountsFromApplications();
+}
@@ -1,13 +1,31 @@
 package com.trainersindia.portal.repository;
 
+import com.trainersindia.portal.dto.ApplicationExportRow;
+import com.trainersindia.portal.dto.ApplicationOwnership;
+import com.trainersindia.portal.dto.JobApplicationResponse;
+import com.trainersindia.portal.entity.ApplicationStatus;
 import com.trainersindia.portal.entity.JobApplication;
 import com.trainersindia.portal.entity.Post;
 import com.trainersindia.portal.entity.TrainerProfile;
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
 public interface JobApplicationRepository extends JpaRepository<JobApplication, Long> {
@@ -15,4 +33,64 @@ public interface JobApplicationRepository extends JpaRepository<JobApplication,
     List<JobApplication> findByPost(Post post);
     Optional<JobApplication> findByTrainerAndPost(TrainerProfile trainer, Post post);
     boolean existsByTrainerAndPost(TrainerProfile trainer, Post post);
+
+    /**
+     * A trainer's applications resolved by username in one statement, without loading
+     * the user, profile or post entities.
+     */
+    @Query(value = "SELECT new com.trainersindia.portal.dto.JobApplicationResponse(a.id, p.id, p.title, "
+            + "t.fullName, a.coverLetter, a.status, a.createdAt, a.updatedAt) "
+            + "FROM JobApplication a JOIN a.post p JOIN a.trainer t "
+            + "WHERE t.user.username = :username AND (:status IS NULL OR a.status = :status)",
+            countQuery = "SELECT COUNT(a) FROM JobApplication a "
+            + "WHERE a.trainer.user.username = :username AND (:status IS NULL OR a.status = :status)")
+    Page<JobApplicationResponse> findResponsesByTrainerUsername(String username, ApplicationStatus status,
+                                                                Pageable pageable);
+
+    @Query(value = "SELECT new com.trainersindia.portal.dto.JobApplicationResponse(a.id, p.id, p.title, "
+            + "t.fullName, a.coverLetter, a.status, a.createdAt, a.updatedAt) "
+            + "FROM JobApplication a JOIN a.post p JOIN a.trainer t "
+            + "WHERE p.id = :postId AND (:status IS NULL OR a.status = :status)",
+            countQuery = "SELECT COUNT(a) FROM JobApplication a "
+            + "WHERE a.post.id = :postId AND (:status IS NULL OR a.status = :status)")
+    Page<JobApplicationResponse> findResponsesByPostId(Long postId, ApplicationStatus status, Pageable pageable);
+
+    /**
+     * Locks the given applications until the transaction ends, in id order so that
+     * overlapping batches cannot deadlock. Returns the ids that exist.
+     */
+    @Query(value = "SELECT id FROM job_applications WHERE id IN (:ids) ORDER BY id FOR UPDATE", nativeQuery = true)
+    List<Long> lockByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.trainersindia.portal.dto.ApplicationOwnership(a.id, p.id, p.postedBy, a.status) "
+            + "FROM JobApplication a JOIN a.post p WHERE a.id IN :ids")
+    List<ApplicationOwnership> findOwnershipByIdIn(Collection<Long> ids);
+
+    /**
+     * Moves the given applications from one status to another. Rows whose status has
+     * changed concurrently no longer match and are not counted.
+     */
+    @Modifying
+    @Query("UPDATE JobApplication a SET a.status = :to, a.updatedAt = :now WHERE a.id IN :ids AND a.status = :from")
+    int updateStatusByIdIn(Collection<Long> ids, ApplicationStatus from, ApplicationStatus to, LocalDateTime now);
+
+    /**
+     * Loads an application with its row locked until the transaction ends, so the
+     * status read here is the one being replaced.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT a FROM JobApplication a WHERE a.id = :id")
+    Optional<JobApplication> findForUpdateById(Long id);
+
+    @Query("SELECT a FROM JobApplication a JOIN FETCH a.post JOIN FETCH a.trainer t JOIN FETCH t.user "
+            + "WHERE a.id = :id")
+    Optional<JobApplication> findWithPostAndTrainerById(Long id);
+
+    @Query("SELECT new com.trainersindia.portal.dto.ApplicationExportRow(a.id, p.id, p.title, t.id, t.fullName, "
+            + "t.email, a.status, a.coverLetter, a.createdAt, a.updatedAt) "
+            + "FROM JobApplication a JOIN a.post p JOIN a.trainer t "
+            + "WHERE (:postedBy IS NULL OR p.postedBy = :postedBy) AND (:postId IS NULL OR p.id = :postId) "
+            + "ORDER BY a.id")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<ApplicationExportRow> streamExportRows(String postedBy, Long postId);
 } 
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.entity.MetricBucket;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MetricBucketRepository extends JpaRepository<MetricBucket, MetricBucket.Key> {
+
+    List<MetricBucket> findByMetricInAndBucketStartGreaterThanEqual(Collection<String> metrics, LocalDateTime from);
+}
@@ -0,0 +1,14 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.entity.MetricTotal;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface MetricTotalRepository extends JpaRepository<MetricTotal, MetricTotal.Key> {
+
+    List<MetricTotal> findByMetricIn(Collection<String> metrics);
+}
@@ -0,0 +1,9 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.entity.MetricUserState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface MetricUserStateRepository extends JpaRepository<MetricUserState, Long> {
+}
@@ -0,0 +1,33 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.entity.MetricWatermark;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+
+@Repository
+public interface MetricWatermarkRepository extends JpaRepository<MetricWatermark, String> {
+
+    /**
+     * Creates the source's watermark at {@code start} unless it exists, so there is
+     * always a row for {@link #findForUpdateBySource} to lock.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO metric_watermarks (source, last_seen_at, last_id) VALUES (:source, :start, 0) "
+            + "ON CONFLICT (source) DO NOTHING", nativeQuery = true)
+    void insertIfAbsent(String source, LocalDateTime start);
+
+    /**
+     * Loads a watermark with its row locked until the transaction ends, so overlapping
+     * rollup runs, on this instance or another, take turns instead of counting the same
+     * batch twice.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM MetricWatermark w WHERE w.source = :source")
+    MetricWatermark findForUpdateBySource(String source);
+}
@@ -0,0 +1,64 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.dto.CompanyDashboardResponse;
+import com.trainersindia.portal.entity.PostApplicationCount;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PostApplicationCountRepository
+        extends JpaRepository<PostApplicationCount, PostApplicationCount.Key> {
+
+    List<PostApplicationCount> findByPostIdIn(Collection<Long> postIds);
+
+    @Query("SELECT new com.trainersindia.portal.dto.CompanyDashboardResponse$StatusCount(c.status, SUM(c.applicationCount)) "
+            + "FROM PostApplicationCount c JOIN Post p ON p.id = c.postId "
+            + "WHERE p.postedBy = :postedBy GROUP BY c.status")
+    List<CompanyDashboardResponse.StatusCount> sumByStatusForCompany(String postedBy);
+
+    /**
+     * The company's posts with the most applications, not counting withdrawn ones.
+     */
+    @Query("SELECT new com.trainersindia.portal.dto.CompanyDashboardResponse$TopPost(p.id, p.title, SUM(c.applicationCount)) "
+            + "FROM PostApplicationCount c JOIN Post p ON p.id = c.postId "
+            + "WHERE p.postedBy = :postedBy AND c.status <> com.trainersindia.portal.entity.ApplicationStatus.WITHDRAWN "
+            + "GROUP BY p.id, p.title "
+            + "HAVING SUM(c.applicationCount) > 0 "
+            + "ORDER BY SUM(c.applicationCount) DESC, p.id DESC")
+    List<CompanyDashboardResponse.TopPost> findTopPostsForCompany(String postedBy, Limit limit);
+
+    /**
+     * Adds {@code delta} to one counter in a single atomic statement, creating it if needed.
+     */
+    @Modifying
+    @Query(value = "INSERT INTO post_application_counts (post_id, status, application_count) "
+            + "VALUES (:postId, :status, :delta) "
+            + "ON CONFLICT (post_id, status) DO UPDATE "
+            + "SET application_count = post_application_counts.application_count + EXCLUDED.application_count",
+            nativeQuery = true)
+    void increment(Long postId, String status, long delta);
+
+    /**
+     * Blocks counter updates until the surrounding transaction ends, so a rebuild does
+     * not race with applications being counted.
+     */
+    @Modifying
+    @Query(value = "LOCK TABLE post_application_counts IN EXCLUSIVE MODE", nativeQuery = true)
+    void lockForRebuild();
+
+    @Modifying
+    @Query(value = "DELETE FROM post_application_counts", nativeQuery = true)
+    void deleteAllCounts();
+
+    @Modifying
+    @Query(value = "INSERT INTO post_application_counts (post_id, status, application_count) "
+            + "SELECT post_id, status, COUNT(*) FROM job_applications GROUP BY post_id, status",
+            nativeQuery = true)
+    int insertCountsFromApplications();
+}
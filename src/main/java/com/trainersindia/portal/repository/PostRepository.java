@@ -1,12 +1,42 @@
 package com.trainersindia.portal.repository;
 
+import com.trainersindia.portal.dto.PostExportRow;
 import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.util.EntityVersion;
+import jakarta.persistence.QueryHint;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 @Repository
-public interface PostRepository extends JpaRepository<Post, Long> {
+public interface PostRepository extends JpaRepository<Post, Long>, JpaSpecificationExecutor<Post>,
+        PostSummaryRepository {
     List<Post> findByPostedBy(String postedBy);
+
+    @Query("SELECT DISTINCT p FROM Post p LEFT JOIN FETCH p.skillsRequired")
+    List<Post> findAllWithSkills();
+
+    @Query("SELECT new com.trainersindia.portal.util.EntityVersion(p.id, COALESCE(p.updatedAt, p.createdAt)) "
+            + "FROM Post p WHERE p.id = :id")
+    Optional<EntityVersion> findVersionById(Long id);
+
+    @Query("SELECT p.postedBy FROM Post p WHERE p.id = :id")
+    Optional<String> findPostedByById(Long id);
+
+    @Query("SELECT new com.trainersindia.portal.dto.PostExportRow(p.id, p.title, p.companyName, p.location, "
+            + "p.jobType, p.experienceLevel, p.salaryRange, p.description, p.qualifications, "
+            + "p.applicationDeadline, p.contactEmail, p.postedBy, p.createdAt, p.updatedAt, s) "
+            + "FROM Post p LEFT JOIN p.skillsRequired s "
+            + "WHERE (:postedBy IS NULL OR p.postedBy = :postedBy) ORDER BY p.id")
+    @QueryHints({@QueryHint(name = HINT_FETCH_SIZE, value = "500"), @QueryHint(name = HINT_READ_ONLY, value = "true")})
+    Stream<PostExportRow> streamExportRows(String postedBy);
 } 
\ No newline at end of file
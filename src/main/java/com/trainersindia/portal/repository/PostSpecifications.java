@@ -0,0 +1,108 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.util.KeysetCursor;
+import jakarta.persistence.criteria.Join;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Query building blocks for job search. All string filters are case-insensitive and
+ * compare against the normalized columns maintained by {@link Post}.
+ */
+public final class PostSpecifications {
+
+    /**
+     * Order used by keyset pagination, backed by the (created_at, id) indexes on posts.
+     */
+    public static final Sort KEYSET_SORT = Sort.by(Sort.Direction.DESC, "createdAt", "id");
+
+    private PostSpecifications() {
+    }
+
+    public static Specification<Post> matching(String location, String jobType, String experienceLevel,
+                                               Collection<String> skills) {
+        List<Specification<Post>> specs = new ArrayList<>();
+        if (location != null) {
+            specs.add(locationIs(location));
+        }
+        if (jobType != null) {
+            specs.add(jobTypeIs(jobType));
+        }
+        if (experienceLevel != null) {
+            specs.add(experienceLevelIs(experienceLevel));
+        }
+        if (skills != null && !skills.isEmpty()) {
+            specs.add(hasAllSkills(skills));
+        }
+        return Specification.allOf(specs);
+    }
+
+    public static Specification<Post> postedBy(String postedBy) {
+        return (root, query, cb) -> cb.equal(root.get("postedBy"), postedBy);
+    }
+
+    public static Specification<Post> createdAfter(LocalDateTime time) {
+        return (root, query, cb) -> cb.greaterThan(root.get("createdAt"), time);
+    }
+
+    /**
+     * Rows strictly after the cursor in {@link #KEYSET_SORT} order; a null cursor matches everything.
+     */
+    public static Specification<Post> after(KeysetCursor cursor) {
+        return (root, query, cb) -> {
+            if (cursor == null) {
+                return null;
+            }
+            return cb.or(
+                    cb.lessThan(root.get("createdAt"), cursor.createdAt()),
+                    cb.and(
+                            cb.equal(root.get("createdAt"), cursor.createdAt()),
+                            cb.lessThan(root.get("id"), cursor.id())));
+        };
+    }
+
+    public static Specification<Post> locationIs(String location) {
+        return (root, query, cb) -> cb.equal(root.get("locationNormalized"), Post.normalize(location));
+    }
+
+    public static Specification<Post> jobTypeIs(String jobType) {
+        return (root, query, cb) -> cb.equal(root.get("jobTypeNormalized"), Post.normalize(jobType));
+    }
+
+    public static Specification<Post> experienceLevelIs(String experienceLevel) {
+        return (root, query, cb) -> cb.equal(root.get("experienceLevelNormalized"), Post.normalize(experienceLevel));
+    }
+
+    /**
+     * Matches posts that list every one of the given skills, resolved with a single
+     * grouped subquery on post_skills instead of loading each post's collection.
+     */
+    public static Specification<Post> hasAllSkills(Collection<String> skills) {
+        Set<String> normalized = skills.stream()
+                .filter(Objects::nonNull)
+                .map(Post::normalize)
+                .collect(Collectors.toSet());
+
+        return (root, query, cb) -> {
+            Subquery<Long> matchingPosts = query.subquery(Long.class);
+            Root<Post> post = matchingPosts.from(Post.class);
+            Join<Post, String> skill = post.join("skillsRequired");
+            matchingPosts.select(post.get("id"))
+                    .where(cb.lower(skill).in(normalized))
+                    .groupBy(post.get("id"))
+                    .having(cb.equal(cb.countDistinct(cb.lower(skill)), (long) normalized.size()));
+            return root.get("id").in(matchingPosts);
+        };
+    }
+}
@@ -0,0 +1,22 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.entity.Post;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.util.List;
+
+/**
+ * Loads {@link PostSummary} list views with two statements per call: one selecting
+ * only the summary columns and one fetching the skills of every returned post.
+ */
+public interface PostSummaryRepository {
+
+    List<PostSummary> findSummaries(Specification<Post> spec, Sort sort, long offset, int limit);
+
+    /**
+     * Summaries in the order of {@code ids}; ids that no longer exist are skipped.
+     */
+    List<PostSummary> findSummariesByIdIn(List<Long> ids);
+}
@@ -0,0 +1,109 @@
+package com.trainersindia.portal.repository;
+
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.entity.Post;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+class PostSummaryRepositoryImpl implements PostSummaryRepository {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    @Override
+    public List<PostSummary> findSummaries(Specification<Post> spec, Sort sort, long offset, int limit) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Post> root = query.from(Post.class);
+        selectSummaryColumns(query, root);
+
+        Predicate predicate = spec == null ? null : spec.toPredicate(root, query, cb);
+        if (predicate != null) {
+            query.where(predicate);
+        }
+        query.orderBy(QueryUtils.toOrders(sort, root, cb));
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setFirstResult(Math.toIntExact(offset))
+                .setMaxResults(limit)
+                .getResultList();
+        return withSkills(rows);
+    }
+
+    @Override
+    public List<PostSummary> findSummariesByIdIn(List<Long> ids) {
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<Post> root = query.from(Post.class);
+        selectSummaryColumns(query, root);
+        query.where(root.get("id").in(ids));
+
+        Map<Long, PostSummary> byId = new HashMap<>();
+        withSkills(entityManager.createQuery(query).getResultList())
+                .forEach(summary -> byId.put(summary.id(), summary));
+        return ids.stream().map(byId::get).filter(Objects::nonNull).toList();
+    }
+
+    private static void selectSummaryColumns(CriteriaQuery<Tuple> query, Root<Post> root) {
+        query.multiselect(
+                root.get("id"),
+                root.get("title"),
+                root.get("companyName"),
+                root.get("location"),
+                root.get("jobType"),
+                root.get("experienceLevel"),
+                root.get("applicationDeadline"),
+                root.get("createdAt"));
+    }
+
+    /**
+     * Resolves the skills of all rows with one query instead of one lazy load per post.
+     */
+    private List<PostSummary> withSkills(List<Tuple> rows) {
+        if (rows.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = rows.stream().map(row -> row.get(0, Long.class)).toList();
+        Map<Long, List<String>> skillsByPost = new HashMap<>();
+        entityManager.createQuery(
+                        "SELECT p.id, s FROM Post p JOIN p.skillsRequired s WHERE p.id IN :ids", Tuple.class)
+                .setParameter("ids", ids)
+                .getResultList()
+                .forEach(row -> skillsByPost.computeIfAbsent(row.get(0, Long.class), id -> new ArrayList<>())
+                        .add(row.get(1, String.class)));
+
+        return rows.stream()
+                .map(row -> new PostSummary(
+                        row.get(0, Long.class),
+                        row.get(1, String.class),
+                        row.get(2, String.class),
+                        row.get(3, String.class),
+                        row.get(4, String.class),
+                        row.get(5, String.class),
+                        row.get(6, LocalDate.class),
+                        row.get(7, LocalDateTime.class),
+                        List.copyOf(skillsByPost.getOrDefault(row.get(0, Long.class), List.of()))))
+                .toList();
+    }
+}
@@ -2,9 +2,13 @@ package com.trainersindia.portal.repository;
 
 import com.trainersindia.portal.entity.TrainerProfile;
 import com.trainersindia.portal.entity.User;
+import com.trainersindia.portal.util.EntityVersion;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -12,4 +16,14 @@ public interface TrainerProfileRepository extends JpaRepository<TrainerProfile,
     Optional<TrainerProfile> findByUser(User user);
     Optional<TrainerProfile> findByEmail(String email);
     boolean existsByUser(User user);
+
+    @Query("SELECT t FROM TrainerProfile t JOIN FETCH t.user")
+    List<TrainerProfile> findAllWithUser();
+
+    @Query("SELECT t FROM TrainerProfile t JOIN FETCH t.user WHERE t.id IN :ids")
+    List<TrainerProfile> findAllWithUserByIdIn(Collection<Long> ids);
+
+    @Query("SELECT new com.trainersindia.portal.util.EntityVersion(t.id, COALESCE(t.updatedAt, t.createdAt)) "
+            + "FROM TrainerProfile t WHERE t.user.username = :username")
+    Optional<EntityVersion> findVersionByUsername(String username);
 } 
\ No newline at end of file
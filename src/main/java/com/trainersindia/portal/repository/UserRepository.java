@@ -1,7 +1,11 @@
 package com.trainersindia.portal.repository;
 
 import com.trainersindia.portal.entity.User;
+import com.trainersindia.portal.security.UserTokenState;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
@@ -9,4 +13,11 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
     Boolean existsByUsername(String username);
     Boolean existsByEmail(String email);
+
+    @Modifying
+    @Query("UPDATE User u SET u.password = :password WHERE u.id = :id")
+    int updatePassword(Long id, String password);
+
+    @Query("SELECT new com.trainersindia.portal.security.UserTokenState(u.active, u.tokenVersion) FROM User u WHERE u.id = :id")
+    Optional<UserTokenState> findTokenStateById(Long id);
 } 
\ No newline at end of file
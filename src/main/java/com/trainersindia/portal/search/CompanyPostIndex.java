@@ -0,0 +1,101 @@
+package com.trainersindia.portal.search;
+
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Application deadlines of each company's posts, bucketed by date, so open and
+ * expired post counts can be read without scanning the company's posts.
+ */
+@Component
+public class CompanyPostIndex implements PostIndex {
+
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final Map<String, TreeMap<LocalDate, Integer>> deadlinesByCompany = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record PostCounts(long open, long expired) {
+    }
+
+    private record Entry(String postedBy, LocalDate applicationDeadline) {
+    }
+
+    @Override
+    public void index(PostDocument document) {
+        Entry entry = new Entry(document.postedBy(), document.applicationDeadline());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            entries.put(document.id(), entry);
+            deadlinesByCompany.computeIfAbsent(entry.postedBy(), c -> new TreeMap<>())
+                    .merge(entry.applicationDeadline(), 1, Integer::sum);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            entries.clear();
+            deadlinesByCompany.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * A post is open while its application deadline is today or later.
+     */
+    public PostCounts counts(String postedBy, LocalDate today) {
+        lock.readLock().lock();
+        try {
+            TreeMap<LocalDate, Integer> deadlines = deadlinesByCompany.get(postedBy);
+            if (deadlines == null) {
+                return new PostCounts(0, 0);
+            }
+            long expired = 0;
+            long open = 0;
+            for (Map.Entry<LocalDate, Integer> bucket : deadlines.entrySet()) {
+                if (bucket.getKey().isBefore(today)) {
+                    expired += bucket.getValue();
+                } else {
+                    open += bucket.getValue();
+                }
+            }
+            return new PostCounts(open, expired);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(Long postId) {
+        Entry entry = entries.remove(postId);
+        if (entry == null) {
+            return;
+        }
+        TreeMap<LocalDate, Integer> deadlines = deadlinesByCompany.get(entry.postedBy());
+        deadlines.computeIfPresent(entry.applicationDeadline(), (day, count) -> count == 1 ? null : count - 1);
+        if (deadlines.isEmpty()) {
+            deadlinesByCompany.remove(entry.postedBy());
+        }
+    }
+}
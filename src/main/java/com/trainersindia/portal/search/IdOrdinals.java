@@ -0,0 +1,83 @@
+package com.trainersindia.portal.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Dense int ordinals for long entity ids, for indexes that keep ids in RoaringBitmaps.
+ * Ids can grow past Integer.MAX_VALUE while the number of indexed entities cannot, and
+ * reusing the ordinals of removed entities keeps the bitmaps compact. Not thread-safe;
+ * the owning index guards it with its own lock.
+ */
+final class IdOrdinals {
+
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private long[] ids = new long[16];
+    private int[] free = new int[16];
+    private int freeCount;
+    private int next;
+
+    /**
+     * Returns the id's ordinal, assigning one if the id has none.
+     */
+    int acquire(long id) {
+        Integer existing = ordinals.get(id);
+        if (existing != null) {
+            return existing;
+        }
+        int ordinal;
+        if (freeCount > 0) {
+            ordinal = free[--freeCount];
+        } else {
+            if (next == Integer.MAX_VALUE) {
+                throw new IllegalStateException("Index cannot hold more than " + Integer.MAX_VALUE + " entries");
+            }
+            ordinal = next++;
+            if (ordinal == ids.length) {
+                ids = Arrays.copyOf(ids, newLength(ids.length));
+            }
+        }
+        ids[ordinal] = id;
+        ordinals.put(id, ordinal);
+        return ordinal;
+    }
+
+    /**
+     * Returns the id's ordinal, or -1 if it has none.
+     */
+    int find(long id) {
+        return ordinals.getOrDefault(id, -1);
+    }
+
+    long id(int ordinal) {
+        return ids[ordinal];
+    }
+
+    /**
+     * Frees the id's ordinal for reuse; the caller must already have removed it from
+     * every bitmap.
+     */
+    void release(long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        if (freeCount == free.length) {
+            free = Arrays.copyOf(free, newLength(free.length));
+        }
+        free[freeCount++] = ordinal;
+    }
+
+    void clear() {
+        ordinals.clear();
+        ids = new long[16];
+        free = new int[16];
+        freeCount = 0;
+        next = 0;
+    }
+
+    private static int newLength(int length) {
+        return (int) Math.min((long) length * 2, Integer.MAX_VALUE - 8);
+    }
+}
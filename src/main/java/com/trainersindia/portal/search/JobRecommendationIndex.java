@@ -0,0 +1,192 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Sparse skill vectors of every post, weighted by inverse document frequency, used to
+ * rank open posts for a trainer. Only posts sharing at least one skill with the
+ * trainer are scored, and only the best {@code limit} are kept.
+ */
+@Component
+public class JobRecommendationIndex implements PostIndex {
+
+    private static final double LOCATION_BOOST = 1.25;
+    private static final double EXPERIENCE_BOOST = 1.1;
+
+    private final Map<String, RoaringBitmap> postsBySkill = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final IdOrdinals ordinals = new IdOrdinals();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Recommendation(Long postId, double score, List<String> matchedSkills) {
+    }
+
+    /**
+     * {@code skills} maps normalized skill to the spelling used on the post.
+     */
+    private record Entry(long id, Map<String, String> skills, String location, Set<String> experienceTerms,
+                         LocalDate applicationDeadline) {
+    }
+
+    @Override
+    public void index(PostDocument document) {
+        Map<String, String> skills = new LinkedHashMap<>();
+        document.skills().forEach(skill -> skills.putIfAbsent(Post.normalize(skill), skill.trim()));
+        Entry entry = new Entry(
+                document.id(),
+                skills,
+                Post.normalize(document.location()),
+                TextTokenizer.tokenize(document.experienceLevel()),
+                document.applicationDeadline());
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            int ordinal = ordinals.acquire(document.id());
+            skills.keySet().forEach(skill -> postsBySkill.computeIfAbsent(skill, s -> new RoaringBitmap()).add(ordinal));
+            entries.put(ordinal, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postsBySkill.clear();
+            entries.clear();
+            ordinals.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Scores open posts by cosine similarity of IDF-weighted skill vectors, boosted when
+     * the location matches or the experience level overlaps the trainer's experience.
+     */
+    public List<Recommendation> recommend(TrainerDocument trainer, int limit, LocalDate today) {
+        Set<String> trainerSkills = trainer.skills().stream()
+                .map(Post::normalize)
+                .collect(Collectors.toSet());
+        String trainerLocation = Post.normalize(trainer.location());
+        Set<String> trainerExperience = TextTokenizer.tokenize(trainer.experience());
+
+        lock.readLock().lock();
+        try {
+            int postCount = entries.size();
+            if (postCount == 0 || trainerSkills.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+
+            Map<Integer, Double> dotProducts = new HashMap<>();
+            double trainerNormSquared = 0;
+            for (String skill : trainerSkills) {
+                RoaringBitmap posts = postsBySkill.get(skill);
+                double weight = idf(postCount, posts == null ? 0 : posts.getCardinality());
+                double weightSquared = weight * weight;
+                trainerNormSquared += weightSquared;
+                if (posts == null) {
+                    continue;
+                }
+                IntIterator ids = posts.getIntIterator();
+                while (ids.hasNext()) {
+                    dotProducts.merge(ids.next(), weightSquared, Double::sum);
+                }
+            }
+
+            Comparator<Recommendation> byScore = Comparator.comparingDouble(Recommendation::score);
+            PriorityQueue<Recommendation> best = new PriorityQueue<>(limit + 1, byScore);
+            double trainerNorm = Math.sqrt(trainerNormSquared);
+            for (Map.Entry<Integer, Double> candidate : dotProducts.entrySet()) {
+                Entry entry = entries.get(candidate.getKey());
+                if (entry.applicationDeadline() != null && entry.applicationDeadline().isBefore(today)) {
+                    continue;
+                }
+
+                double score = candidate.getValue() / (trainerNorm * postNorm(entry, postCount));
+                if (trainerLocation != null && trainerLocation.equals(entry.location())) {
+                    score *= LOCATION_BOOST;
+                }
+                if (entry.experienceTerms().stream().anyMatch(trainerExperience::contains)) {
+                    score *= EXPERIENCE_BOOST;
+                }
+
+                if (best.size() < limit || score > best.peek().score()) {
+                    List<String> matched = entry.skills().entrySet().stream()
+                            .filter(skill -> trainerSkills.contains(skill.getKey()))
+                            .map(Map.Entry::getValue)
+                            .toList();
+                    best.offer(new Recommendation(entry.id(), score, matched));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            List<Recommendation> ranked = new ArrayList<>(best);
+            ranked.sort(byScore.reversed());
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private double postNorm(Entry entry, int postCount) {
+        double normSquared = 0;
+        for (String skill : entry.skills().keySet()) {
+            double weight = idf(postCount, postsBySkill.get(skill).getCardinality());
+            normSquared += weight * weight;
+        }
+        return Math.sqrt(normSquared);
+    }
+
+    private static double idf(int postCount, int postsWithSkill) {
+        return Math.log(1.0 + (double) postCount / Math.max(postsWithSkill, 1));
+    }
+
+    private void removeLocked(long id) {
+        int ordinal = ordinals.find(id);
+        if (ordinal < 0) {
+            return;
+        }
+        Entry entry = entries.remove(ordinal);
+        for (String skill : entry.skills().keySet()) {
+            RoaringBitmap posts = postsBySkill.get(skill);
+            if (posts != null) {
+                posts.remove(ordinal);
+                if (posts.isEmpty()) {
+                    postsBySkill.remove(skill);
+                }
+            }
+        }
+        ordinals.release(id);
+    }
+}
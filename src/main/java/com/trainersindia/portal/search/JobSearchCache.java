@@ -0,0 +1,184 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.function.Supplier;
+
+/**
+ * Bounded LRU cache of job search results keyed on the normalized query. Entries
+ * expire after a fixed time and are dropped as soon as a post that matched (or now
+ * matches) their query is created, updated or deleted, so unrelated writes leave
+ * popular searches cached.
+ */
+@Component
+public class JobSearchCache {
+
+    @Value("${app.job-search.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${app.job-search.cache.ttl:5m}")
+    private Duration ttl;
+
+    private final Map<Query, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    // Bumped on every invalidation; results loaded across a bump may be stale and are not stored
+    private long generation;
+
+    private long hits;
+    private long misses;
+    private long evictions;
+    private long expirations;
+    private long invalidations;
+
+    /**
+     * Normalized search parameters. Keyword queries carry their sorted terms and no
+     * filters; filter queries carry no terms. Both carry the requested page.
+     */
+    public record Query(String location, String jobType, String experienceLevel, List<String> skills,
+                        List<String> terms, long offset, int limit, String sort) {
+
+        public static Query filters(String location, String jobType, String experienceLevel, List<String> skills,
+                                    long offset, int limit, String sort) {
+            Set<String> normalizedSkills = new TreeSet<>();
+            if (skills != null) {
+                skills.stream().filter(Objects::nonNull).map(Post::normalize)
+                        .filter(skill -> !skill.isEmpty()).forEach(normalizedSkills::add);
+            }
+            return new Query(blankToNull(location), blankToNull(jobType), blankToNull(experienceLevel),
+                    List.copyOf(normalizedSkills), null, offset, limit, sort);
+        }
+
+        public static Query keyword(String keyword, long offset, int limit) {
+            return new Query(null, null, null, List.of(),
+                    List.copyOf(new TreeSet<>(TextTokenizer.tokenize(keyword))), offset, limit, null);
+        }
+
+        boolean matches(PostDocument document) {
+            if (document == null
+                    || !matchesValue(location, document.location())
+                    || !matchesValue(jobType, document.jobType())
+                    || !matchesValue(experienceLevel, document.experienceLevel())) {
+                return false;
+            }
+            if (!skills.isEmpty()) {
+                Set<String> postSkills = new HashSet<>();
+                document.skills().forEach(skill -> postSkills.add(Post.normalize(skill)));
+                if (!postSkills.containsAll(skills)) {
+                    return false;
+                }
+            }
+            if (terms != null && !terms.isEmpty()) {
+                return KeywordIndex.matches(KeywordIndex.terms(document), terms);
+            }
+            return true;
+        }
+
+        private static boolean matchesValue(String expected, String actual) {
+            return expected == null || expected.equals(Post.normalize(actual));
+        }
+
+        private static String blankToNull(String value) {
+            String normalized = Post.normalize(value);
+            return normalized == null || normalized.isEmpty() ? null : normalized;
+        }
+    }
+
+    /**
+     * A loaded result together with the ids of the posts it shows. Results that do not
+     * follow from the query alone (such as similarity-ranked fallbacks) set
+     * {@code volatileResult} and are dropped on any post change.
+     */
+    public record Result<T>(T value, Collection<Long> postIds, boolean volatileResult) {
+    }
+
+    public record Stats(long size, long maxEntries, long hits, long misses, double hitRate, long evictions,
+                        long expirations, long invalidations) {
+    }
+
+    private record Entry(Object value, Set<Long> postIds, boolean volatileResult, long expiresAt) {
+    }
+
+    @SuppressWarnings("unchecked")
+    public <T> T get(Query query, Supplier<Result<T>> loader) {
+        long now = System.nanoTime();
+        long loadGeneration;
+        synchronized (this) {
+            Entry entry = entries.get(query);
+            if (entry != null && entry.expiresAt() - now > 0) {
+                hits++;
+                return (T) entry.value();
+            }
+            if (entry != null) {
+                entries.remove(query);
+                expirations++;
+            }
+            misses++;
+            loadGeneration = generation;
+        }
+
+        Result<T> result = loader.get();
+
+        synchronized (this) {
+            if (generation == loadGeneration) {
+                entries.put(query, new Entry(result.value(), Set.copyOf(result.postIds()), result.volatileResult(),
+                        now + ttl.toNanos()));
+                while (entries.size() > maxEntries) {
+                    Iterator<Map.Entry<Query, Entry>> eldest = entries.entrySet().iterator();
+                    eldest.next();
+                    eldest.remove();
+                    evictions++;
+                }
+            }
+        }
+        return result.value();
+    }
+
+    /**
+     * Runs after {@link PostIndexManager} has updated the indexes, so a search started
+     * after this point already sees the change.
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.LOWEST_PRECEDENCE)
+    public synchronized void onPostChanged(PostChangedEvent event) {
+        generation++;
+        Iterator<Map.Entry<Query, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Query, Entry> cached = iterator.next();
+            Entry entry = cached.getValue();
+            if (entry.volatileResult()
+                    || entry.postIds().contains(event.postId())
+                    || cached.getKey().matches(event.previous())
+                    || cached.getKey().matches(event.document())) {
+                iterator.remove();
+                invalidations++;
+            }
+        }
+    }
+
+    public synchronized void clear() {
+        generation++;
+        invalidations += entries.size();
+        entries.clear();
+    }
+
+    public synchronized Stats stats() {
+        long requests = hits + misses;
+        return new Stats(entries.size(), maxEntries, hits, misses, requests == 0 ? 0 : (double) hits / requests,
+                evictions, expirations, invalidations);
+    }
+}
@@ -0,0 +1,168 @@
+package com.trainersindia.portal.search;
+
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Inverted index from term to the ids of posts whose title, description, company
+ * name or skills contain that term. Terms are kept sorted, so a query term matches
+ * every indexed term it is a prefix of ("java" finds "javascript"); a keyword query
+ * matches posts that match every query term.
+ */
+@Component
+public class KeywordIndex implements PostIndex {
+
+    private final NavigableMap<String, Set<Long>> postings = new TreeMap<>();
+    private final Map<Long, Set<String>> termsByPost = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    /**
+     * The searchable terms of a post.
+     */
+    public static Set<String> terms(PostDocument document) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(TextTokenizer.tokenize(document.title()));
+        terms.addAll(TextTokenizer.tokenize(document.description()));
+        terms.addAll(TextTokenizer.tokenize(document.companyName()));
+        document.skills().forEach(skill -> terms.addAll(TextTokenizer.tokenize(skill)));
+        return terms;
+    }
+
+    /**
+     * Whether every query term is a prefix of at least one of the post's terms, the same
+     * rule {@link #search} applies.
+     */
+    public static boolean matches(Set<String> postTerms, Collection<String> queryTerms) {
+        return queryTerms.stream().allMatch(queryTerm -> postTerms.stream().anyMatch(term -> term.startsWith(queryTerm)));
+    }
+
+    @Override
+    public void index(PostDocument document) {
+        Set<String> terms = terms(document);
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            for (String term : terms) {
+                postings.computeIfAbsent(term, t -> new HashSet<>()).add(document.id());
+            }
+            termsByPost.put(document.id(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            postings.clear();
+            termsByPost.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns the ids of posts that have, for every term of the keyword, a term starting
+     * with it, newest first.
+     */
+    public List<Long> search(String keyword) {
+        Set<String> terms = TextTokenizer.tokenize(keyword);
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Set<Long>> lists = new ArrayList<>(terms.size());
+            for (String term : terms) {
+                Set<Long> posting = prefixPostingLocked(term);
+                if (posting.isEmpty()) {
+                    return List.of();
+                }
+                lists.add(posting);
+            }
+            lists.sort(Comparator.comparingInt(Set::size));
+
+            List<Long> result = new ArrayList<>();
+            Set<Long> smallest = lists.get(0);
+            for (Long id : smallest) {
+                boolean inAll = true;
+                for (int i = 1; i < lists.size() && inAll; i++) {
+                    inAll = lists.get(i).contains(id);
+                }
+                if (inAll) {
+                    result.add(id);
+                }
+            }
+            result.sort(Comparator.reverseOrder());
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Posts of every indexed term starting with {@code prefix}; shares the posting set
+     * when only one term matches.
+     */
+    private Set<Long> prefixPostingLocked(String prefix) {
+        Set<Long> union = null;
+        boolean shared = false;
+        for (Map.Entry<String, Set<Long>> entry : postings.tailMap(prefix, true).entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (union == null) {
+                union = entry.getValue();
+                shared = true;
+            } else {
+                if (shared) {
+                    union = new HashSet<>(union);
+                    shared = false;
+                }
+                union.addAll(entry.getValue());
+            }
+        }
+        return union == null ? Set.of() : union;
+    }
+
+    private void removeLocked(Long postId) {
+        Set<String> terms = termsByPost.remove(postId);
+        if (terms == null) {
+            return;
+        }
+        for (String term : terms) {
+            Set<Long> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(postId);
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
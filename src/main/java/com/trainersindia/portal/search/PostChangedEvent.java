@@ -0,0 +1,27 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+
+/**
+ * Published by the post service whenever a post is created, updated or deleted.
+ * {@code previous} is the post as it was before the change ({@code null} for
+ * creations) and {@code document} is {@code null} for deletions.
+ */
+public record PostChangedEvent(Long postId, PostDocument previous, PostDocument document) {
+
+    public static PostChangedEvent saved(Post post) {
+        return new PostChangedEvent(post.getId(), null, PostDocument.from(post));
+    }
+
+    public static PostChangedEvent updated(PostDocument previous, Post post) {
+        return new PostChangedEvent(post.getId(), previous, PostDocument.from(post));
+    }
+
+    public static PostChangedEvent deleted(PostDocument previous) {
+        return new PostChangedEvent(previous.id(), previous, null);
+    }
+
+    public boolean isDeleted() {
+        return document == null;
+    }
+}
@@ -0,0 +1,47 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the searchable fields of a {@link Post}, taken inside the
+ * writing transaction so that in-memory indexes never touch lazy JPA state.
+ */
+public record PostDocument(
+        Long id,
+        String title,
+        String description,
+        String companyName,
+        String location,
+        String jobType,
+        String experienceLevel,
+        List<String> skills,
+        LocalDate applicationDeadline,
+        String postedBy,
+        LocalDateTime createdAt
+) {
+
+    public static PostDocument from(Post post) {
+        List<String> skills = post.getSkillsRequired() == null
+                ? List.of()
+                : post.getSkillsRequired().stream().filter(Objects::nonNull).toList();
+
+        return new PostDocument(
+                post.getId(),
+                post.getTitle(),
+                post.getDescription(),
+                post.getCompanyName(),
+                post.getLocation(),
+                post.getJobType(),
+                post.getExperienceLevel(),
+                skills,
+                post.getApplicationDeadline(),
+                post.getPostedBy(),
+                post.getCreatedAt()
+        );
+    }
+}
@@ -0,0 +1,399 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+import org.roaringbitmap.FastAggregation;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.IntUnaryOperator;
+import java.util.stream.Collectors;
+
+/**
+ * Compressed bitmaps of posts per skill, location, job type and experience level.
+ * A job search is the AND of one bitmap per filter value, so a multi-skill query costs
+ * a handful of container intersections rather than a pass over every post.
+ *
+ * Bitmaps hold ordinals that follow the posts' (createdAt, id) order, so the newest
+ * matches are the highest values of the result bitmap and a page is read by rank
+ * without looking at the other matches. Ordinals are spaced {@value #GAP} apart: a
+ * new post normally lands after the newest one, a post that commits slightly out of
+ * order takes a free ordinal between its neighbours, and all ordinals are renumbered,
+ * in one pass over the bitmaps, only when no gap is left.
+ */
+@Component
+public class PostFilterIndex implements PostIndex {
+
+    static final int GAP = 16;
+
+    // Ascending ordinal order; post ids are unique, so no two entries compare equal
+    private static final Comparator<Entry> OLDEST_FIRST = Comparator
+            .comparing(Entry::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+            .thenComparingLong(Entry::id);
+
+    private final RoaringBitmap all = new RoaringBitmap();
+    private final Dimension byLocation = new Dimension();
+    private final Dimension byJobType = new Dimension();
+    private final Dimension byExperienceLevel = new Dimension();
+    private final Dimension bySkill = new Dimension();
+    private final Map<Long, Integer> ordinals = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final NavigableMap<Entry, Integer> sorted = new TreeMap<>(OLDEST_FIRST);
+    private int renumberings;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record SearchResult(List<Long> ids, long total) {
+    }
+
+    /**
+     * Match counts per value, keyed by the value as it was written on a post and
+     * ordered by descending count.
+     */
+    public record Facets(long total, Map<String, Long> locations, Map<String, Long> jobTypes,
+                         Map<String, Long> experienceLevels, Map<String, Long> skills) {
+    }
+
+    private record Entry(long id, String location, String jobType, String experienceLevel, Set<String> skills,
+                         LocalDateTime createdAt) {
+    }
+
+    /**
+     * Bitmaps for one filterable field, keyed by normalized value, plus the original
+     * spelling of each value for display.
+     */
+    private static final class Dimension {
+        private final Map<String, RoaringBitmap> bitmaps = new HashMap<>();
+        private final Map<String, String> labels = new HashMap<>();
+
+        void add(String label, int id) {
+            if (label == null) {
+                return;
+            }
+            String key = Post.normalize(label);
+            bitmaps.computeIfAbsent(key, k -> new RoaringBitmap()).add(id);
+            labels.putIfAbsent(key, label.trim());
+        }
+
+        void remove(String key, int id) {
+            if (key == null) {
+                return;
+            }
+            RoaringBitmap bitmap = bitmaps.get(key);
+            if (bitmap != null) {
+                bitmap.remove(id);
+                if (bitmap.isEmpty()) {
+                    bitmaps.remove(key);
+                    labels.remove(key);
+                }
+            }
+        }
+
+        RoaringBitmap get(String value) {
+            return bitmaps.get(Post.normalize(value));
+        }
+
+        void remap(IntUnaryOperator ordinals) {
+            bitmaps.replaceAll((key, bitmap) -> PostFilterIndex.remap(bitmap, ordinals));
+        }
+
+        void clear() {
+            bitmaps.clear();
+            labels.clear();
+        }
+
+        /**
+         * Counts of each value within {@code filter}, or overall when the filter is null.
+         */
+        Map<String, Long> counts(RoaringBitmap filter, int limit) {
+            PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+            bitmaps.forEach((key, bitmap) -> {
+                long count = filter == null ? bitmap.getLongCardinality() : RoaringBitmap.andCardinality(bitmap, filter);
+                if (count > 0) {
+                    top.offer(Map.entry(labels.get(key), count));
+                    if (top.size() > limit) {
+                        top.poll();
+                    }
+                }
+            });
+
+            List<Map.Entry<String, Long>> ordered = new ArrayList<>(top);
+            ordered.sort(Map.Entry.<String, Long>comparingByValue().reversed());
+            Map<String, Long> counts = new LinkedHashMap<>();
+            ordered.forEach(entry -> counts.put(entry.getKey(), entry.getValue()));
+            return counts;
+        }
+    }
+
+    @Override
+    public void index(PostDocument document) {
+        Entry entry = new Entry(
+                document.id(),
+                Post.normalize(document.location()),
+                Post.normalize(document.jobType()),
+                Post.normalize(document.experienceLevel()),
+                normalizeAll(document.skills()),
+                document.createdAt());
+
+        lock.writeLock().lock();
+        try {
+            Integer existing = ordinals.get(document.id());
+            int ordinal;
+            if (existing != null && OLDEST_FIRST.compare(entries.get(existing), entry) == 0) {
+                // Same position in the order, which is every update: keep the ordinal
+                unindexLocked(existing);
+                ordinal = existing;
+            } else {
+                removeLocked(document.id());
+                ordinal = allocateLocked(entry);
+                ordinals.put(document.id(), ordinal);
+            }
+            sorted.put(entry, ordinal);
+            all.add(ordinal);
+            byLocation.add(document.location(), ordinal);
+            byJobType.add(document.jobType(), ordinal);
+            byExperienceLevel.add(document.experienceLevel(), ordinal);
+            document.skills().forEach(skill -> bySkill.add(skill, ordinal));
+            entries.put(ordinal, entry);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            all.clear();
+            byLocation.clear();
+            byJobType.clear();
+            byExperienceLevel.clear();
+            bySkill.clear();
+            ordinals.clear();
+            entries.clear();
+            sorted.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns one page of matching post ids, newest first, together with the total
+     * number of matches. Each post on the page is one rank lookup in the match bitmap,
+     * so the cost does not grow with the number of matches or the offset.
+     */
+    public SearchResult search(String location, String jobType, String experienceLevel, Collection<String> skills,
+                               long offset, int limit) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap matches = matchLocked(location, jobType, experienceLevel, skills);
+            long total = matches.getLongCardinality();
+            if (offset >= total || limit <= 0) {
+                return new SearchResult(List.of(), total);
+            }
+
+            int count = (int) Math.min(limit, total - offset);
+            List<Long> page = new ArrayList<>(count);
+            for (int i = 0; i < count; i++) {
+                // The newest match is the highest ordinal, rank total - 1
+                int ordinal = matches.select((int) (total - 1 - offset - i));
+                page.add(entries.get(ordinal).id());
+            }
+            return new SearchResult(page, total);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Counts posts per location, job type, experience level and skill within the
+     * given filter set, using bitmap intersection cardinalities only.
+     */
+    public Facets facets(String location, String jobType, String experienceLevel, Collection<String> skills,
+                         int topSkills) {
+        lock.readLock().lock();
+        try {
+            boolean filtered = location != null || jobType != null || experienceLevel != null
+                    || (skills != null && !skills.isEmpty());
+            RoaringBitmap matches = matchLocked(location, jobType, experienceLevel, skills);
+            RoaringBitmap filter = filtered ? matches : null;
+
+            return new Facets(
+                    matches.getLongCardinality(),
+                    byLocation.counts(filter, Integer.MAX_VALUE),
+                    byJobType.counts(filter, Integer.MAX_VALUE),
+                    byExperienceLevel.counts(filter, Integer.MAX_VALUE),
+                    bySkill.counts(filter, topSkills));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns a private copy of the bitmap of posts matching every given filter;
+     * null or empty filters are ignored.
+     */
+    public RoaringBitmap match(String location, String jobType, String experienceLevel, Collection<String> skills) {
+        lock.readLock().lock();
+        try {
+            return matchLocked(location, jobType, experienceLevel, skills);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private RoaringBitmap matchLocked(String location, String jobType, String experienceLevel,
+                                      Collection<String> skills) {
+        List<RoaringBitmap> required = new ArrayList<>();
+        if (location != null) {
+            required.add(byLocation.get(location));
+        }
+        if (jobType != null) {
+            required.add(byJobType.get(jobType));
+        }
+        if (experienceLevel != null) {
+            required.add(byExperienceLevel.get(experienceLevel));
+        }
+        if (skills != null) {
+            normalizeAll(skills).forEach(skill -> required.add(bySkill.get(skill)));
+        }
+
+        if (required.isEmpty()) {
+            return all.clone();
+        }
+        if (required.contains(null)) {
+            return new RoaringBitmap();
+        }
+        if (required.size() == 1) {
+            return required.get(0).clone();
+        }
+        required.sort(Comparator.comparingLong(RoaringBitmap::getLongCardinality));
+        return FastAggregation.and(required.iterator());
+    }
+
+    /**
+     * Number of times the ordinals have been renumbered since startup.
+     */
+    int renumberings() {
+        lock.readLock().lock();
+        try {
+            return renumberings;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removeLocked(long id) {
+        Integer ordinal = ordinals.remove(id);
+        if (ordinal == null) {
+            return;
+        }
+        sorted.remove(unindexLocked(ordinal));
+    }
+
+    /**
+     * Takes the ordinal out of every bitmap and returns its entry.
+     */
+    private Entry unindexLocked(int ordinal) {
+        Entry entry = entries.remove(ordinal);
+        all.remove(ordinal);
+        byLocation.remove(entry.location(), ordinal);
+        byJobType.remove(entry.jobType(), ordinal);
+        byExperienceLevel.remove(entry.experienceLevel(), ordinal);
+        entry.skills().forEach(skill -> bySkill.remove(skill, ordinal));
+        return entry;
+    }
+
+    /**
+     * Returns a free ordinal between those of the entry's neighbours in
+     * (createdAt, id) order, renumbering first when they are adjacent.
+     */
+    private int allocateLocked(Entry entry) {
+        for (int attempt = 0; ; attempt++) {
+            Integer lower = valueOrNull(sorted.lowerEntry(entry));
+            Integer higher = valueOrNull(sorted.higherEntry(entry));
+            long low = lower == null ? -1 : lower;
+            long high = higher == null ? low + GAP + 1 : higher;
+            if (high - low > 1 && high - 1 <= Integer.MAX_VALUE) {
+                // Appends take the next spaced slot; inserts split the gap
+                return (int) (higher == null ? high - 1 : low + (high - low) / 2);
+            }
+            if (attempt > 0) {
+                throw new IllegalStateException("No free ordinal left for post " + entry.id());
+            }
+            renumberLocked();
+        }
+    }
+
+    /**
+     * Respaces every ordinal {@value #GAP} apart, or closer if that would overflow,
+     * keeping their order.
+     */
+    private void renumberLocked() {
+        int count = sorted.size();
+        int spacing = (int) Math.max(1, Math.min(GAP, (Integer.MAX_VALUE - (long) GAP) / Math.max(count, 1)));
+        Map<Integer, Integer> renumbered = new HashMap<>(count * 2);
+        int next = spacing - 1;
+        for (Map.Entry<Entry, Integer> sortedEntry : sorted.entrySet()) {
+            renumbered.put(sortedEntry.getValue(), next);
+            sortedEntry.setValue(next);
+            next += spacing;
+        }
+        IntUnaryOperator remap = renumbered::get;
+
+        RoaringBitmap allRemapped = remap(all, remap);
+        all.clear();
+        all.or(allRemapped);
+        byLocation.remap(remap);
+        byJobType.remap(remap);
+        byExperienceLevel.remap(remap);
+        bySkill.remap(remap);
+        Map<Integer, Entry> entriesRemapped = new HashMap<>(count * 2);
+        entries.forEach((ordinal, e) -> entriesRemapped.put(renumbered.get(ordinal), e));
+        entries.clear();
+        entries.putAll(entriesRemapped);
+        ordinals.replaceAll((id, ordinal) -> renumbered.get(ordinal));
+        renumberings++;
+    }
+
+    private static RoaringBitmap remap(RoaringBitmap bitmap, IntUnaryOperator ordinals) {
+        RoaringBitmap remapped = new RoaringBitmap();
+        // Renumbering keeps the order, so values arrive ascending and append cheaply
+        bitmap.forEach((int ordinal) -> remapped.add(ordinals.applyAsInt(ordinal)));
+        return remapped;
+    }
+
+    private static Integer valueOrNull(Map.Entry<Entry, Integer> entry) {
+        return entry == null ? null : entry.getValue();
+    }
+
+    private static Set<String> normalizeAll(Collection<String> values) {
+        return values.stream()
+                .filter(Objects::nonNull)
+                .map(Post::normalize)
+                .collect(Collectors.toSet());
+    }
+}
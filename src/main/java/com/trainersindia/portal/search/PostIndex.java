@@ -0,0 +1,17 @@
+package com.trainersindia.portal.search;
+
+/**
+ * An in-memory structure derived from the posts table. Implementations are
+ * rebuilt once at startup and then kept in sync by {@link PostIndexManager}.
+ */
+public interface PostIndex {
+
+    /**
+     * Adds the document, replacing any previous version with the same id.
+     */
+    void index(PostDocument document);
+
+    void remove(Long postId);
+
+    void clear();
+}
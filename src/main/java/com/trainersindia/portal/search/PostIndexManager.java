@@ -0,0 +1,64 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Feeds every {@link PostIndex} bean. The full load runs after all singletons are
+ * created, which is before the web server starts accepting requests; afterwards
+ * indexes only see committed changes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class PostIndexManager implements SmartInitializingSingleton {
+
+    private final List<PostIndex> indexes;
+    private final PostRepository postRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        List<PostDocument> documents = transactionTemplate.execute(status ->
+                postRepository.findAllWithSkills().stream()
+                        .map(PostDocument::from)
+                        // Oldest first, so the filter index appends every post in ordinal order
+                        .sorted(Comparator.comparing(PostDocument::createdAt,
+                                        Comparator.nullsLast(Comparator.<LocalDateTime>naturalOrder()))
+                                .thenComparing(PostDocument::id))
+                        .toList());
+
+        indexes.forEach(PostIndex::clear);
+        for (PostDocument document : documents) {
+            indexes.forEach(index -> index.index(document));
+        }
+        log.info("Indexed {} posts into {} post indexes", documents.size(), indexes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    @Order(Ordered.HIGHEST_PRECEDENCE)
+    public void onPostChanged(PostChangedEvent event) {
+        for (PostIndex index : indexes) {
+            if (event.isDeleted()) {
+                index.remove(event.postId());
+            } else {
+                index.index(event.document());
+            }
+        }
+    }
+}
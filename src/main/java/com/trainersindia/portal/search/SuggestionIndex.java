@@ -0,0 +1,160 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Autocomplete over distinct skills (from posts and trainer profiles), post
+ * locations and post titles, weighted by how many posts and profiles use each value.
+ */
+@Component
+public class SuggestionIndex implements PostIndex, TrainerProfileIndex {
+
+    public enum Type {
+        SKILL,
+        LOCATION,
+        TITLE
+    }
+
+    public record Suggestion(String text, Type type, long weight) {
+    }
+
+    private record PostTerms(Set<String> skills, String location, String title) {
+    }
+
+    private final Map<Type, SuggestionTrie> tries = new EnumMap<>(Type.class);
+    private final Map<Long, PostTerms> termsByPost = new HashMap<>();
+    private final Map<Long, Set<String>> skillsByTrainer = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public SuggestionIndex() {
+        for (Type type : Type.values()) {
+            tries.put(type, new SuggestionTrie());
+        }
+    }
+
+    @Override
+    public void index(PostDocument document) {
+        PostTerms terms = new PostTerms(trimAll(document.skills()), trim(document.location()), trim(document.title()));
+
+        lock.writeLock().lock();
+        try {
+            removePostLocked(document.id());
+            addPost(terms, 1);
+            termsByPost.put(document.id(), terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removePostLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            List.copyOf(termsByPost.keySet()).forEach(this::removePostLocked);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void indexProfile(TrainerDocument document) {
+        Set<String> skills = trimAll(document.skills());
+
+        lock.writeLock().lock();
+        try {
+            Set<String> previous = skillsByTrainer.put(document.id(), skills);
+            if (previous != null) {
+                previous.forEach(skill -> add(Type.SKILL, skill, -1));
+            }
+            skills.forEach(skill -> add(Type.SKILL, skill, 1));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearProfiles() {
+        lock.writeLock().lock();
+        try {
+            skillsByTrainer.values().forEach(skills -> skills.forEach(skill -> add(Type.SKILL, skill, -1)));
+            skillsByTrainer.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Heaviest values starting with {@code prefix} (case-insensitive), limited to one
+     * type when {@code type} is not null.
+     */
+    public List<Suggestion> suggest(String prefix, Type type, int limit) {
+        String key = Post.normalize(prefix);
+        if (key == null || key.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            List<Suggestion> suggestions = new ArrayList<>();
+            for (Type candidate : type == null ? Type.values() : new Type[]{type}) {
+                tries.get(candidate).complete(key, limit).forEach(completion ->
+                        suggestions.add(new Suggestion(completion.text(), candidate, completion.weight())));
+            }
+            suggestions.sort(Comparator.comparingLong(Suggestion::weight).reversed());
+            return suggestions.size() > limit ? List.copyOf(suggestions.subList(0, limit)) : suggestions;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void removePostLocked(Long postId) {
+        PostTerms terms = termsByPost.remove(postId);
+        if (terms != null) {
+            addPost(terms, -1);
+        }
+    }
+
+    private void addPost(PostTerms terms, long delta) {
+        terms.skills().forEach(skill -> add(Type.SKILL, skill, delta));
+        add(Type.LOCATION, terms.location(), delta);
+        add(Type.TITLE, terms.title(), delta);
+    }
+
+    private void add(Type type, String label, long delta) {
+        if (label != null && !label.isEmpty()) {
+            tries.get(type).add(Post.normalize(label), label, delta);
+        }
+    }
+
+    private static String trim(String value) {
+        return value == null ? null : value.trim();
+    }
+
+    private static Set<String> trimAll(List<String> values) {
+        Set<String> trimmed = new LinkedHashSet<>();
+        values.forEach(value -> trimmed.add(value.trim()));
+        return trimmed;
+    }
+}
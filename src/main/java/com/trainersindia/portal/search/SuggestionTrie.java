@@ -0,0 +1,114 @@
+package com.trainersindia.portal.search;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+
+/**
+ * Character trie of weighted terms. Every node records the highest weight in its
+ * subtree, so the top-k completions of a prefix are found best-first by visiting
+ * roughly k paths instead of the whole subtree. Not thread-safe.
+ */
+public class SuggestionTrie {
+
+    public record Completion(String text, long weight) {
+    }
+
+    private static final class Node {
+        private final Map<Character, Node> children = new HashMap<>();
+        private long weight;
+        private long maxWeight;
+        private String label;
+    }
+
+    private final Node root = new Node();
+
+    /**
+     * Adds {@code delta} (possibly negative) to the weight of {@code key}; terms whose
+     * weight drops to zero are pruned. {@code label} is the display form of the key.
+     */
+    public void add(String key, String label, long delta) {
+        if (key == null || key.isEmpty() || delta == 0) {
+            return;
+        }
+
+        List<Node> path = new ArrayList<>(key.length() + 1);
+        Node node = root;
+        path.add(node);
+        for (int i = 0; i < key.length(); i++) {
+            Node parent = node;
+            node = parent.children.get(key.charAt(i));
+            if (node == null) {
+                if (delta < 0) {
+                    return;
+                }
+                node = new Node();
+                parent.children.put(key.charAt(i), node);
+            }
+            path.add(node);
+        }
+
+        node.weight = Math.max(0, node.weight + delta);
+        if (node.weight == 0) {
+            node.label = null;
+        } else if (node.label == null) {
+            node.label = label;
+        }
+
+        for (int i = path.size() - 1; i >= 0; i--) {
+            Node current = path.get(i);
+            long max = current.weight;
+            for (Node child : current.children.values()) {
+                max = Math.max(max, child.maxWeight);
+            }
+            current.maxWeight = max;
+            if (i > 0 && max == 0) {
+                path.get(i - 1).children.remove(key.charAt(i - 1));
+            }
+        }
+    }
+
+    public void clear() {
+        root.children.clear();
+        root.weight = 0;
+        root.maxWeight = 0;
+    }
+
+    /**
+     * The {@code limit} heaviest terms starting with {@code prefix}, heaviest first.
+     */
+    public List<Completion> complete(String prefix, int limit) {
+        Node node = root;
+        for (int i = 0; i < prefix.length() && node != null; i++) {
+            node = node.children.get(prefix.charAt(i));
+        }
+        if (node == null || limit <= 0) {
+            return List.of();
+        }
+
+        // Frontier of subtrees (keyed by their max weight) and finished terms (keyed by their own weight)
+        record Item(Node node, boolean terminal, long priority) {
+        }
+        PriorityQueue<Item> frontier = new PriorityQueue<>(Comparator.comparingLong(Item::priority).reversed());
+        frontier.add(new Item(node, false, node.maxWeight));
+
+        List<Completion> completions = new ArrayList<>(limit);
+        while (!frontier.isEmpty() && completions.size() < limit) {
+            Item item = frontier.poll();
+            if (item.terminal()) {
+                completions.add(new Completion(item.node().label, item.priority()));
+                continue;
+            }
+            if (item.node().weight > 0) {
+                frontier.add(new Item(item.node(), true, item.node().weight));
+            }
+            for (Node child : item.node().children.values()) {
+                frontier.add(new Item(child, false, child.maxWeight));
+            }
+        }
+        return completions;
+    }
+}
@@ -0,0 +1,36 @@
+package com.trainersindia.portal.search;
+
+import java.util.LinkedHashSet;
+import java.util.Set;
+
+/**
+ * Splits free text into lower-cased terms. Letters and digits form terms; '+' and '#'
+ * are kept so that skills such as "C++" and "C#" stay distinct from "C".
+ */
+public final class TextTokenizer {
+
+    private TextTokenizer() {
+    }
+
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isEmpty()) {
+            return terms;
+        }
+
+        StringBuilder current = new StringBuilder();
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (Character.isLetterOrDigit(c) || c == '+' || c == '#') {
+                current.append(Character.toLowerCase(c));
+            } else if (!current.isEmpty()) {
+                terms.add(current.toString());
+                current.setLength(0);
+            }
+        }
+        if (!current.isEmpty()) {
+            terms.add(current.toString());
+        }
+        return terms;
+    }
+}
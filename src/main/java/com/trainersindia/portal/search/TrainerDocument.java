@@ -0,0 +1,34 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.TrainerProfile;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Immutable snapshot of the matching-relevant fields of a {@link TrainerProfile}.
+ */
+public record TrainerDocument(
+        Long id,
+        String username,
+        String location,
+        String experience,
+        List<String> skills,
+        List<String> certifications
+) {
+
+    public static TrainerDocument from(TrainerProfile profile) {
+        return new TrainerDocument(
+                profile.getId(),
+                profile.getUser().getUsername(),
+                profile.getLocation(),
+                profile.getExperience(),
+                copyOf(profile.getSkills()),
+                copyOf(profile.getCertifications())
+        );
+    }
+
+    private static List<String> copyOf(List<String> values) {
+        return values == null ? List.of() : values.stream().filter(Objects::nonNull).toList();
+    }
+}
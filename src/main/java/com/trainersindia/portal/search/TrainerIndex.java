@@ -0,0 +1,190 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.Post;
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * In-memory copy of every trainer profile's skills, certifications, location and
+ * experience. Skills are also indexed as skill -> trainer bitmaps so that the best
+ * trainers for a post can be ranked without loading profiles.
+ */
+@Component
+public class TrainerIndex implements TrainerProfileIndex {
+
+    private static final double CERTIFICATION_WEIGHT = 0.1;
+    private static final int MAX_CERTIFICATION_MATCHES = 3;
+    private static final double LOCATION_BOOST = 1.2;
+
+    private final Map<String, TrainerDocument> byUsername = new HashMap<>();
+    private final Map<Integer, Entry> entries = new HashMap<>();
+    private final IdOrdinals ordinals = new IdOrdinals();
+    private final Map<String, RoaringBitmap> trainersBySkill = new HashMap<>();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    public record Candidate(Long trainerId, double score, List<String> matchedSkills,
+                            List<String> matchedCertifications) {
+    }
+
+    /**
+     * {@code skills} maps normalized skill to the trainer's spelling; certifications
+     * keep their tokens so they can be compared against a post's skills.
+     */
+    private record Entry(long id, String username, Map<String, String> skills, Map<String, Set<String>> certifications,
+                         String location) {
+    }
+
+    @Override
+    public void indexProfile(TrainerDocument document) {
+        lock.writeLock().lock();
+        try {
+            indexLocked(document);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clearProfiles() {
+        lock.writeLock().lock();
+        try {
+            byUsername.clear();
+            entries.clear();
+            ordinals.clear();
+            trainersBySkill.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public Optional<TrainerDocument> findByUsername(String username) {
+        lock.readLock().lock();
+        try {
+            return Optional.ofNullable(byUsername.get(username));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Ranks trainers for a post by the IDF-weighted share of the post's skills they
+     * have, plus a small bonus per certification mentioning one of those skills, and
+     * a boost for a matching location. Only trainers with at least one of the
+     * skills are scored and only the best {@code limit} are kept.
+     */
+    public List<Candidate> rankFor(PostDocument post, int limit) {
+        Map<String, Set<String>> postSkills = new LinkedHashMap<>();
+        post.skills().forEach(skill -> postSkills.put(Post.normalize(skill), TextTokenizer.tokenize(skill)));
+        String postLocation = Post.normalize(post.location());
+
+        lock.readLock().lock();
+        try {
+            int trainerCount = entries.size();
+            if (trainerCount == 0 || postSkills.isEmpty() || limit <= 0) {
+                return List.of();
+            }
+
+            Map<Integer, Double> skillWeights = new HashMap<>();
+            double totalWeight = 0;
+            for (String skill : postSkills.keySet()) {
+                RoaringBitmap trainers = trainersBySkill.get(skill);
+                double weight = Math.log(1.0 + (double) trainerCount / (trainers == null ? 1 : trainers.getCardinality()));
+                totalWeight += weight;
+                if (trainers == null) {
+                    continue;
+                }
+                IntIterator ids = trainers.getIntIterator();
+                while (ids.hasNext()) {
+                    skillWeights.merge(ids.next(), weight, Double::sum);
+                }
+            }
+
+            Set<String> postSkillTerms = new HashSet<>();
+            postSkills.values().forEach(postSkillTerms::addAll);
+
+            Comparator<Candidate> byScore = Comparator.comparingDouble(Candidate::score);
+            PriorityQueue<Candidate> best = new PriorityQueue<>(limit + 1, byScore);
+            for (Map.Entry<Integer, Double> match : skillWeights.entrySet()) {
+                Entry entry = entries.get(match.getKey());
+
+                List<String> matchedCertifications = entry.certifications().entrySet().stream()
+                        .filter(certification -> certification.getValue().stream().anyMatch(postSkillTerms::contains))
+                        .map(Map.Entry::getKey)
+                        .toList();
+
+                double score = match.getValue() / totalWeight
+                        + CERTIFICATION_WEIGHT * Math.min(matchedCertifications.size(), MAX_CERTIFICATION_MATCHES);
+                if (postLocation != null && postLocation.equals(entry.location())) {
+                    score *= LOCATION_BOOST;
+                }
+
+                if (best.size() < limit || score > best.peek().score()) {
+                    List<String> matchedSkills = entry.skills().entrySet().stream()
+                            .filter(skill -> postSkills.containsKey(skill.getKey()))
+                            .map(Map.Entry::getValue)
+                            .toList();
+                    best.offer(new Candidate(entry.id(), score, matchedSkills, matchedCertifications));
+                    if (best.size() > limit) {
+                        best.poll();
+                    }
+                }
+            }
+
+            List<Candidate> ranked = new ArrayList<>(best);
+            ranked.sort(byScore.reversed());
+            return ranked;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void indexLocked(TrainerDocument document) {
+        removeLocked(document.id());
+        int ordinal = ordinals.acquire(document.id());
+
+        Map<String, String> skills = new LinkedHashMap<>();
+        document.skills().forEach(skill -> skills.putIfAbsent(Post.normalize(skill), skill.trim()));
+        Map<String, Set<String>> certifications = new LinkedHashMap<>();
+        document.certifications().forEach(certification ->
+                certifications.put(certification.trim(), TextTokenizer.tokenize(certification)));
+
+        Entry entry = new Entry(document.id(), document.username(), skills, certifications,
+                Post.normalize(document.location()));
+        skills.keySet().forEach(skill -> trainersBySkill.computeIfAbsent(skill, s -> new RoaringBitmap()).add(ordinal));
+        entries.put(ordinal, entry);
+        byUsername.put(document.username(), document);
+    }
+
+    private void removeLocked(long id) {
+        int ordinal = ordinals.find(id);
+        if (ordinal < 0) {
+            return;
+        }
+        Entry entry = entries.remove(ordinal);
+        byUsername.remove(entry.username());
+        for (String skill : entry.skills().keySet()) {
+            RoaringBitmap trainers = trainersBySkill.get(skill);
+            if (trainers != null) {
+                trainers.remove(ordinal);
+                if (trainers.isEmpty()) {
+                    trainersBySkill.remove(skill);
+                }
+            }
+        }
+        ordinals.release(id);
+    }
+}
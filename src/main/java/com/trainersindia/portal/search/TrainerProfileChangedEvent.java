@@ -0,0 +1,13 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.entity.TrainerProfile;
+
+/**
+ * Published by the trainer profile service whenever a profile is created or updated.
+ */
+public record TrainerProfileChangedEvent(TrainerDocument document) {
+
+    public static TrainerProfileChangedEvent saved(TrainerProfile profile) {
+        return new TrainerProfileChangedEvent(TrainerDocument.from(profile));
+    }
+}
@@ -0,0 +1,15 @@
+package com.trainersindia.portal.search;
+
+/**
+ * An in-memory structure derived from trainer profiles. Implementations are rebuilt
+ * once at startup and then kept in sync by {@link TrainerProfileIndexManager}.
+ */
+public interface TrainerProfileIndex {
+
+    /**
+     * Adds the profile, replacing any previous version with the same id.
+     */
+    void indexProfile(TrainerDocument document);
+
+    void clearProfiles();
+}
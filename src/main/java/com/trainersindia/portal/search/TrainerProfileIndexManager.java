@@ -0,0 +1,48 @@
+package com.trainersindia.portal.search;
+
+import com.trainersindia.portal.repository.TrainerProfileRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * Feeds every {@link TrainerProfileIndex} bean, the same way {@link PostIndexManager}
+ * feeds post indexes.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class TrainerProfileIndexManager implements SmartInitializingSingleton {
+
+    private final List<TrainerProfileIndex> indexes;
+    private final TrainerProfileRepository profileRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public void rebuild() {
+        List<TrainerDocument> documents = transactionTemplate.execute(status ->
+                profileRepository.findAllWithUser().stream()
+                        .map(TrainerDocument::from)
+                        .toList());
+
+        indexes.forEach(TrainerProfileIndex::clearProfiles);
+        for (TrainerDocument document : documents) {
+            indexes.forEach(index -> index.indexProfile(document));
+        }
+        log.info("Indexed {} trainer profiles into {} profile indexes", documents.size(), indexes.size());
+    }
+
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onProfileChanged(TrainerProfileChangedEvent event) {
+        indexes.forEach(index -> index.indexProfile(event.document()));
+    }
+}
@@ -0,0 +1,194 @@
+package com.trainersindia.portal.search;
+
+import org.roaringbitmap.IntIterator;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Typo-tolerant lookup over the terms of post titles, company names and skills.
+ * Trigrams point at distinct terms rather than posts, so a misspelled query term is
+ * resolved against the vocabulary first and only the posts of close terms are scored.
+ */
+@Component
+public class TrigramIndex implements PostIndex {
+
+    private static final double MIN_SIMILARITY = 0.3;
+
+    private final Map<String, Set<String>> termsByTrigram = new HashMap<>();
+    private final Map<String, RoaringBitmap> postsByTerm = new HashMap<>();
+    private final Map<Integer, Set<String>> termsByPost = new HashMap<>();
+    private final IdOrdinals ordinals = new IdOrdinals();
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    @Override
+    public void index(PostDocument document) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(TextTokenizer.tokenize(document.title()));
+        terms.addAll(TextTokenizer.tokenize(document.companyName()));
+        document.skills().forEach(skill -> terms.addAll(TextTokenizer.tokenize(skill)));
+
+        lock.writeLock().lock();
+        try {
+            removeLocked(document.id());
+            int ordinal = ordinals.acquire(document.id());
+            for (String term : terms) {
+                RoaringBitmap posts = postsByTerm.get(term);
+                if (posts == null) {
+                    posts = new RoaringBitmap();
+                    postsByTerm.put(term, posts);
+                    trigrams(term).forEach(trigram -> termsByTrigram.computeIfAbsent(trigram, t -> new HashSet<>()).add(term));
+                }
+                posts.add(ordinal);
+            }
+            termsByPost.put(ordinal, terms);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void remove(Long postId) {
+        lock.writeLock().lock();
+        try {
+            removeLocked(postId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            termsByTrigram.clear();
+            postsByTerm.clear();
+            termsByPost.clear();
+            ordinals.clear();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} post ids ranked by the average, over query terms, of
+     * the best trigram similarity between that query term and any term of the post.
+     */
+    public List<Long> search(String keyword, int limit) {
+        List<String> queryTerms = new ArrayList<>(TextTokenizer.tokenize(keyword));
+        if (queryTerms.isEmpty() || limit <= 0) {
+            return List.of();
+        }
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, double[]> bestByPost = new HashMap<>();
+            for (int q = 0; q < queryTerms.size(); q++) {
+                for (Map.Entry<String, Double> similar : similarTerms(queryTerms.get(q)).entrySet()) {
+                    IntIterator ids = postsByTerm.get(similar.getKey()).getIntIterator();
+                    while (ids.hasNext()) {
+                        double[] best = bestByPost.computeIfAbsent(ids.next(), id -> new double[queryTerms.size()]);
+                        best[q] = Math.max(best[q], similar.getValue());
+                    }
+                }
+            }
+
+            Comparator<Map.Entry<Long, Double>> byScore = Map.Entry.<Long, Double>comparingByValue()
+                    .thenComparing(Map.Entry.comparingByKey());
+            PriorityQueue<Map.Entry<Long, Double>> top = new PriorityQueue<>(limit + 1, byScore);
+            bestByPost.forEach((ordinal, best) -> {
+                double sum = 0;
+                for (double similarity : best) {
+                    sum += similarity;
+                }
+                top.offer(Map.entry(ordinals.id(ordinal), sum / best.length));
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            });
+
+            List<Map.Entry<Long, Double>> ranked = new ArrayList<>(top);
+            ranked.sort(byScore.reversed());
+            return ranked.stream().map(Map.Entry::getKey).toList();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Vocabulary terms whose trigram Jaccard similarity to {@code queryTerm} reaches
+     * {@link #MIN_SIMILARITY}, found by counting shared trigrams.
+     */
+    private Map<String, Double> similarTerms(String queryTerm) {
+        Set<String> queryTrigrams = trigrams(queryTerm);
+        Map<String, Integer> shared = new HashMap<>();
+        for (String trigram : queryTrigrams) {
+            Set<String> terms = termsByTrigram.get(trigram);
+            if (terms != null) {
+                terms.forEach(term -> shared.merge(term, 1, Integer::sum));
+            }
+        }
+
+        Map<String, Double> similar = new HashMap<>();
+        shared.forEach((term, common) -> {
+            int union = queryTrigrams.size() + trigrams(term).size() - common;
+            double similarity = (double) common / union;
+            if (similarity >= MIN_SIMILARITY) {
+                similar.put(term, similarity);
+            }
+        });
+        return similar;
+    }
+
+    /**
+     * Trigrams of a term padded like pg_trgm ("  ab", " abc", ..., "yz "), so that
+     * short terms and word boundaries still produce trigrams.
+     */
+    static Set<String> trigrams(String term) {
+        String padded = "  " + term + " ";
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (int i = 0; i + 3 <= padded.length(); i++) {
+            trigrams.add(padded.substring(i, i + 3));
+        }
+        return trigrams;
+    }
+
+    private void removeLocked(long id) {
+        int ordinal = ordinals.find(id);
+        if (ordinal < 0) {
+            return;
+        }
+        Set<String> terms = termsByPost.remove(ordinal);
+        ordinals.release(id);
+        for (String term : terms) {
+            RoaringBitmap posts = postsByTerm.get(term);
+            if (posts == null) {
+                continue;
+            }
+            posts.remove(ordinal);
+            if (posts.isEmpty()) {
+                postsByTerm.remove(term);
+                for (String trigram : trigrams(term)) {
+                    Set<String> vocabulary = termsByTrigram.get(trigram);
+                    if (vocabulary != null) {
+                        vocabulary.remove(term);
+                        if (vocabulary.isEmpty()) {
+                            termsByTrigram.remove(trigram);
+                        }
+                    }
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,112 @@
+package com.trainersindia.portal.security;
+
+import com.trainersindia.portal.entity.RevokedAccessToken;
+import com.trainersindia.portal.repository.RevokedAccessTokenRepository;
+import com.trainersindia.portal.util.BloomFilter;
+import io.jsonwebtoken.Claims;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked access tokens by jti, held in memory until each token's own expiry. Lookups
+ * go through a Bloom filter first, so a token that was never revoked, which is nearly
+ * every token, costs a few hashes. Revocations are persisted to revoked_access_tokens
+ * and the filter and map are rebuilt from that table periodically, which drops expired
+ * entries and picks up revocations made by other instances.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class AccessTokenDenylist implements SmartInitializingSingleton {
+
+    private final RevokedAccessTokenRepository revokedAccessTokenRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.jwt.denylist.expected-revocations:10000}")
+    private int expectedRevocations;
+
+    @Value("${app.jwt.denylist.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile State state;
+
+    /**
+     * Expiry in epoch millis by jti; the filter holds every key of the map.
+     */
+    private record State(BloomFilter filter, Map<String, Long> expiries) {
+    }
+
+    @Override
+    public void afterSingletonsInstantiated() {
+        rebuild();
+    }
+
+    public boolean isRevoked(String jti) {
+        State current = state;
+        if (jti == null || !current.filter().mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = current.expiries().get(jti);
+        return expiresAt != null && System.currentTimeMillis() < expiresAt;
+    }
+
+    /**
+     * Revokes the token described by verified claims. Tokens without a jti or expiry
+     * were issued before revocation was supported and cannot be revoked.
+     */
+    public void revoke(Claims claims) {
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+        Instant expiresAt = claims.getExpiration().toInstant();
+        revokedAccessTokenRepository.save(new RevokedAccessToken(claims.getId(), expiresAt, Instant.now()));
+        synchronized (this) {
+            add(state, claims.getId(), expiresAt.toEpochMilli());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.jwt.denylist.rebuild-interval:PT5M}",
+            initialDelayString = "${app.jwt.denylist.rebuild-interval:PT5M}")
+    public void rebuild() {
+        Instant now = Instant.now();
+        List<RevokedAccessToken> revoked = transactionTemplate.execute(status -> {
+            revokedAccessTokenRepository.deleteExpired(now);
+            return revokedAccessTokenRepository.findByExpiresAtAfter(now);
+        });
+
+        synchronized (this) {
+            // Size for what is revoked now plus room for revocations until the next rebuild
+            State rebuilt = new State(
+                    BloomFilter.create(Math.max(expectedRevocations, revoked.size() * 2), falsePositiveRate),
+                    new ConcurrentHashMap<>());
+            revoked.forEach(token -> add(rebuilt, token.getJti(), token.getExpiresAt().toEpochMilli()));
+            // Keep revocations made here while the table was being read
+            if (state != null) {
+                long nowMillis = now.toEpochMilli();
+                state.expiries().forEach((jti, expiresAt) -> {
+                    if (expiresAt > nowMillis) {
+                        add(rebuilt, jti, expiresAt);
+                    }
+                });
+            }
+            state = rebuilt;
+        }
+        log.debug("Rebuilt access token denylist with {} revoked tokens", state.expiries().size());
+    }
+
+    private static void add(State target, String jti, long expiresAt) {
+        // Map first: a concurrent reader that passes the filter must find the entry
+        target.expiries().put(jti, expiresAt);
+        target.filter().put(jti);
+    }
+}
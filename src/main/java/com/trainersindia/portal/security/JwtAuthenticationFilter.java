@@ -4,11 +4,15 @@ import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
+import io.jsonwebtoken.Claims;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.security.web.context.SecurityContextRepository;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
@@ -28,6 +32,17 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtTokenProvider tokenProvider;
     private final CustomUserDetailsService customUserDetailsService;
+    private final UserTokenStateCache userTokenStateCache;
+    private final AccessTokenDenylist accessTokenDenylist;
+    private final SecurityContextRepository securityContextRepository = new RequestAttributeSecurityContextRepository();
+
+    /**
+     * When set, the principal is built from the token's claims and only the user's
+     * active flag and token version are checked, through {@link UserTokenStateCache}.
+     * Otherwise the full user is loaded on every request.
+     */
+    @Value("${app.jwt.claims-only-authentication:true}")
+    private boolean claimsOnly;
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
@@ -35,15 +50,19 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         try {
             String jwt = getJwtFromRequest(request);
 
-            if (StringUtils.hasText(jwt) && tokenProvider.validateToken(jwt)) {
-                String username = tokenProvider.getUsernameFromToken(jwt);
-                UserDetails userDetails = customUserDetailsService.loadUserByUsername(username);
-                
+            Claims claims = StringUtils.hasText(jwt) ? tokenProvider.parseValidToken(jwt).orElse(null) : null;
+            UserPrincipal principal = claims == null ? null : authenticate(claims);
+
+            if (principal != null) {
                 UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
-                        userDetails, null, userDetails.getAuthorities());
+                        principal, null, principal.getAuthorities());
                 authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
 
-                SecurityContextHolder.getContext().setAuthentication(authentication);
+                SecurityContext context = SecurityContextHolder.createEmptyContext();
+                context.setAuthentication(authentication);
+                SecurityContextHolder.setContext(context);
+                // Lets the ASYNC dispatch of a streamed response restore the same authentication
+                securityContextRepository.saveContext(context, request, response);
             }
         } catch (UsernameNotFoundException e) {
             log.error("User not found: {}", e.getMessage());
@@ -66,6 +85,29 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
 
+    /**
+     * Returns the principal for verified claims, or null if the token was revoked, the
+     * user has been disabled or the token's version has been superseded.
+     */
+    private UserPrincipal authenticate(Claims claims) {
+        if (accessTokenDenylist.isRevoked(claims.getId())) {
+            log.debug("Rejected revoked token of user {}", claims.getSubject());
+            return null;
+        }
+        UserPrincipal principal = claimsOnly ? tokenProvider.getPrincipalFromClaims(claims) : null;
+        if (principal == null) {
+            // Full lookup, also used for tokens issued before claims carried the user id
+            principal = customUserDetailsService.loadUserByTokenSubject(claims.getSubject());
+        }
+        Integer tokenVersion = claims.get(JwtTokenProvider.TOKEN_VERSION_CLAIM, Integer.class);
+        int expectedVersion = tokenVersion == null ? principal.getTokenVersion() : tokenVersion;
+        if (!userTokenStateCache.isCurrent(principal.getId(), expectedVersion)) {
+            log.debug("Rejected token of disabled or re-keyed user {}", principal.getUsername());
+            return null;
+        }
+        return principal;
+    }
+
     private String getJwtFromRequest(HttpServletRequest request) {
         String bearerToken = request.getHeader("Authorization");
         if (StringUtils.hasText(bearerToken) && bearerToken.startsWith("Bearer ")) {
@@ -3,6 +3,7 @@ package com.trainersindia.portal.security;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.Authentication;
@@ -10,25 +11,44 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.stereotype.Component;
 import com.trainersindia.portal.entity.User;
 
+import java.nio.ByteBuffer;
 import java.security.Key;
 import java.util.Date;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
 import java.util.stream.Collectors;
 
 @Component
+@RequiredArgsConstructor
 @Slf4j
 public class JwtTokenProvider {
 
+    public static final String ROLES_CLAIM = "roles";
+    public static final String USER_ID_CLAIM = "uid";
+    public static final String TOKEN_VERSION_CLAIM = "ver";
+
     @Value("${app.jwt.secret}")
     private String jwtSecret;
 
     @Value("${app.jwt.expiration}")
     private int jwtExpirationInMs;
 
+    private final VerifiedTokenCache verifiedTokenCache;
+
     private Key key;
 
+    // Immutable and thread-safe once built, so one instance serves every request
+    private JwtParser parser;
+
     @PostConstruct
     public void init() {
         this.key = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        this.parser = Jwts.parserBuilder().setSigningKey(key).build();
+    }
+
+    public long getExpirationInMs() {
+        return jwtExpirationInMs;
     }
 
     public String generateToken(Authentication authentication) {
@@ -42,7 +62,10 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(userPrincipal.getUsername())
-                .claim("roles", roles)
+                .claim(ROLES_CLAIM, roles)
+                .claim(USER_ID_CLAIM, userPrincipal.getId())
+                .claim(TOKEN_VERSION_CLAIM, userPrincipal.getTokenVersion())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key)
@@ -57,28 +80,44 @@ public class JwtTokenProvider {
 
         return Jwts.builder()
                 .setSubject(user.getUsername())
-                .claim("roles", roles)
+                .claim(ROLES_CLAIM, roles)
+                .claim(USER_ID_CLAIM, user.getId())
+                .claim(TOKEN_VERSION_CLAIM, user.getTokenVersion())
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
                 .signWith(key)
                 .compact();
     }
 
-    public String getUsernameFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-
-        return claims.getSubject();
+    /**
+     * Verifies the token's signature and expiry and returns its claims. Tokens verified
+     * before are answered from {@link VerifiedTokenCache} without repeating the work.
+     * The returned claims are shared and must not be modified.
+     *
+     * @throws JwtException if the token is invalid or expired
+     * @throws IllegalArgumentException if the token is empty
+     */
+    public Claims parseAndVerify(String token) {
+        if (token == null || token.isEmpty()) {
+            throw new IllegalArgumentException("JWT string is empty");
+        }
+        ByteBuffer cacheKey = verifiedTokenCache.key(token);
+        Claims claims = verifiedTokenCache.get(cacheKey);
+        if (claims == null) {
+            claims = parser.parseClaimsJws(token).getBody();
+            verifiedTokenCache.put(cacheKey, claims);
+        }
+        return claims;
     }
 
-    public boolean validateToken(String token) {
+    /**
+     * Like {@link #parseAndVerify(String)}, but logs and returns empty for invalid tokens.
+     */
+    public Optional<Claims> parseValidToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
-            return true;
-        } catch (SecurityException ex) {
+            return Optional.of(parseAndVerify(token));
+        } catch (io.jsonwebtoken.security.SecurityException ex) {
             log.error("Invalid JWT signature");
         } catch (MalformedJwtException ex) {
             log.error("Invalid JWT token");
@@ -89,15 +128,33 @@ public class JwtTokenProvider {
         } catch (IllegalArgumentException ex) {
             log.error("JWT claims string is empty");
         }
-        return false;
+        return Optional.empty();
+    }
+
+    /**
+     * The principal described by verified claims, or null for tokens issued before user
+     * ids and token versions were embedded.
+     */
+    public UserPrincipal getPrincipalFromClaims(Claims claims) {
+        Long userId = claims.get(USER_ID_CLAIM, Long.class);
+        Integer tokenVersion = claims.get(TOKEN_VERSION_CLAIM, Integer.class);
+        if (userId == null || tokenVersion == null) {
+            return null;
+        }
+        String roles = claims.get(ROLES_CLAIM, String.class);
+        List<String> roleList = roles == null || roles.isEmpty() ? List.of() : List.of(roles.split(","));
+        return UserPrincipal.fromClaims(userId, claims.getSubject(), roleList, tokenVersion);
+    }
+
+    public String getUsernameFromToken(String token) {
+        return parseAndVerify(token).getSubject();
+    }
+
+    public boolean validateToken(String token) {
+        return parseValidToken(token).isPresent();
     }
 
     public Date getExpirationFromToken(String token) {
-        Claims claims = Jwts.parserBuilder()
-                .setSigningKey(key)
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-        return claims.getExpiration();
+        return parseAndVerify(token).getExpiration();
     }
 } 
\ No newline at end of file
@@ -0,0 +1,113 @@
+package com.trainersindia.portal.security;
+
+import com.trainersindia.portal.exception.UserException;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Runs password hashing on a small fixed pool with a bounded queue, so a burst of
+ * logins or registrations uses at most {@code threads} cores and cannot starve other
+ * requests. When the queue is full the caller gets a 429 instead of waiting.
+ */
+@Component
+@Slf4j
+public class PasswordHashingExecutor {
+
+    @Value("${app.password-hashing.threads:0}")
+    private int threads;
+
+    @Value("${app.password-hashing.queue-capacity:64}")
+    private int queueCapacity;
+
+    private ThreadPoolExecutor executor;
+
+    private final LongAdder completed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder totalQueueNanos = new LongAdder();
+    private final LongAccumulator maxQueueNanos = new LongAccumulator(Math::max, 0);
+
+    public record Stats(int threads, int queueCapacity, int queued, int active, long completed, long rejected,
+                        double averageQueueMillis, double maxQueueMillis) {
+    }
+
+    @PostConstruct
+    void init() {
+        // Half the cores by default, leaving the rest for request handling
+        int poolSize = threads > 0 ? threads : Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+        AtomicInteger threadNumber = new AtomicInteger();
+        executor = new ThreadPoolExecutor(poolSize, poolSize, 0, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                task -> {
+                    Thread thread = new Thread(task, "password-hashing-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    /**
+     * Runs the hashing work on the pool and waits for its result.
+     *
+     * @throws UserException with 429 when the pool and its queue are full
+     */
+    public <T> T run(Supplier<T> work) {
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                long queued = System.nanoTime() - submittedAt;
+                totalQueueNanos.add(queued);
+                maxQueueNanos.accumulate(queued);
+                return work.get();
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            log.warn("Password hashing saturated, rejecting request");
+            throw new UserException("Too many authentication requests, please retry shortly",
+                    HttpStatus.TOO_MANY_REQUESTS);
+        }
+
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for password hashing", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new IllegalStateException(e.getCause());
+        } finally {
+            completed.increment();
+        }
+    }
+
+    public Stats stats() {
+        long done = completed.sum();
+        return new Stats(executor.getMaximumPoolSize(), queueCapacity, executor.getQueue().size(),
+                executor.getActiveCount(), done, rejected.sum(),
+                done == 0 ? 0 : totalQueueNanos.sum() / 1e6 / done,
+                maxQueueNanos.get() / 1e6);
+    }
+}
@@ -0,0 +1,193 @@
+package com.trainersindia.portal.security;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainersindia.portal.config.RateLimitConfig;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Throttles the configured unauthenticated endpoints by client IP and by the email in
+ * the JSON request body, before any authentication or hashing work is done. Rejected
+ * requests get 429 with a Retry-After header.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    // Auth request bodies are a few hundred bytes; larger ones are rejected rather than
+    // passed through uninspected, which would skip the email limit
+    private static final int MAX_INSPECTED_BODY = 16 * 1024;
+
+    private final RateLimitConfig config;
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ObjectMapper objectMapper;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !config.isEnabled() || !"POST".equals(request.getMethod()) || endpointFor(request) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Map.Entry<String, RateLimitConfig.Endpoint> entry = endpointFor(request);
+        String name = entry.getKey();
+        RateLimitConfig.Endpoint endpoint = entry.getValue();
+
+        if (endpoint.getIp() != null) {
+            long waitNanos = rateLimiter.tryAcquire(name + ":ip:" + request.getRemoteAddr(), endpoint.getIp());
+            if (waitNanos > 0) {
+                reject(request, response, waitNanos);
+                return;
+            }
+        }
+
+        if (endpoint.getEmail() != null) {
+            CachedBodyRequest cached = CachedBodyRequest.of(request);
+            if (cached == null) {
+                writeError(request, response, HttpStatus.PAYLOAD_TOO_LARGE, "Request body is too large");
+                return;
+            }
+            request = cached;
+            String email = emailFrom(cached.body);
+            if (email != null) {
+                long waitNanos = rateLimiter.tryAcquire(name + ":email:" + email, endpoint.getEmail());
+                if (waitNanos > 0) {
+                    reject(request, response, waitNanos);
+                    return;
+                }
+            }
+        }
+
+        filterChain.doFilter(request, response);
+    }
+
+    private Map.Entry<String, RateLimitConfig.Endpoint> endpointFor(HttpServletRequest request) {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        for (Map.Entry<String, RateLimitConfig.Endpoint> entry : config.getEndpoints().entrySet()) {
+            if (path.equals(entry.getValue().getPath())) {
+                return entry;
+            }
+        }
+        return null;
+    }
+
+    private String emailFrom(byte[] body) {
+        try {
+            JsonNode email = objectMapper.readTree(body).path("email");
+            return email.isTextual() ? email.asText().trim().toLowerCase(Locale.ROOT) : null;
+        } catch (IOException e) {
+            // Malformed bodies are rejected by the controller; only the IP limit applies
+            return null;
+        }
+    }
+
+    private void reject(HttpServletRequest request, HttpServletResponse response, long waitNanos) throws IOException {
+        long cappedWait = Math.min(waitNanos, TimeUnit.DAYS.toNanos(1));
+        long retryAfterSeconds = Math.max(1, (cappedWait + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        log.warn("Rate limit exceeded for {} from {}", request.getRequestURI(), request.getRemoteAddr());
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        writeError(request, response, HttpStatus.TOO_MANY_REQUESTS, "Too many requests, please retry later");
+    }
+
+    private void writeError(HttpServletRequest request, HttpServletResponse response, HttpStatus status, String message)
+            throws IOException {
+        response.setStatus(status.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("status", "ERROR");
+        body.put("message", message);
+        body.put("path", request.getServletPath());
+        objectMapper.writeValue(response.getOutputStream(), body);
+    }
+
+    /**
+     * Request whose body has been read up front so the filter can inspect it and the
+     * controller can still read it.
+     */
+    private static final class CachedBodyRequest extends HttpServletRequestWrapper {
+        private final byte[] body;
+
+        private CachedBodyRequest(HttpServletRequest request, byte[] body) {
+            super(request);
+            this.body = body;
+        }
+
+        /**
+         * Returns null when the body is larger than {@link #MAX_INSPECTED_BODY}. The
+         * stream is read whatever Content-Length says, so chunked bodies are inspected too.
+         */
+        static CachedBodyRequest of(HttpServletRequest request) throws IOException {
+            if (request.getContentLengthLong() > MAX_INSPECTED_BODY) {
+                return null;
+            }
+            byte[] body = request.getInputStream().readNBytes(MAX_INSPECTED_BODY + 1);
+            return body.length > MAX_INSPECTED_BODY ? null : new CachedBodyRequest(request, body);
+        }
+
+        @Override
+        public ServletInputStream getInputStream() {
+            ByteArrayInputStream in = new ByteArrayInputStream(body);
+            return new ServletInputStream() {
+                @Override
+                public int read() {
+                    return in.read();
+                }
+
+                @Override
+                public int read(byte[] b, int off, int len) {
+                    return in.read(b, off, len);
+                }
+
+                @Override
+                public boolean isFinished() {
+                    return in.available() == 0;
+                }
+
+                @Override
+                public boolean isReady() {
+                    return true;
+                }
+
+                @Override
+                public void setReadListener(ReadListener listener) {
+                    throw new UnsupportedOperationException("Cached request bodies are read synchronously");
+                }
+            };
+        }
+
+        @Override
+        public BufferedReader getReader() {
+            String encoding = getCharacterEncoding();
+            return new BufferedReader(new InputStreamReader(new ByteArrayInputStream(body),
+                    encoding == null ? StandardCharsets.UTF_8 : Charset.forName(encoding)));
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.trainersindia.portal.security;
+
+import com.trainersindia.portal.config.RateLimitConfig;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * In-process token buckets by key. Buckets are guarded by a fixed set of striped
+ * locks rather than one lock each or one global lock, so unrelated keys rarely
+ * contend. Idle buckets are evicted periodically to keep memory proportional to
+ * recently active clients.
+ */
+@Component
+@RequiredArgsConstructor
+public class TokenBucketRateLimiter {
+
+    private static final int STRIPES = 64;
+
+    private final RateLimitConfig config;
+    private final Map<String, Bucket> buckets = new ConcurrentHashMap<>();
+    private final Object[] locks = createLocks();
+
+    private static final class Bucket {
+        private final RateLimitConfig.Limit limit;
+        private double tokens;
+        private long refilledAt;
+        private long usedAt;
+
+        private Bucket(RateLimitConfig.Limit limit, long now) {
+            this.limit = limit;
+            this.tokens = limit.getCapacity();
+            this.refilledAt = now;
+            this.usedAt = now;
+        }
+
+        private double tokensPerNano() {
+            return limit.getRefillPerMinute() / (double) TimeUnit.MINUTES.toNanos(1);
+        }
+
+        private void refill(long now) {
+            // Callers read the clock before taking the lock, so time can appear to step back
+            if (now > refilledAt) {
+                tokens = Math.min(limit.getCapacity(), tokens + (now - refilledAt) * tokensPerNano());
+                refilledAt = now;
+            }
+        }
+    }
+
+    /**
+     * Takes one token from the key's bucket.
+     *
+     * @return 0 if the request is allowed, otherwise the nanoseconds until a token is available
+     */
+    public long tryAcquire(String key, RateLimitConfig.Limit limit) {
+        long now = System.nanoTime();
+        synchronized (lockFor(key)) {
+            // Looked up under the stripe lock so eviction cannot orphan the bucket in use
+            Bucket bucket = buckets.computeIfAbsent(key, k -> new Bucket(limit, now));
+            bucket.usedAt = now;
+            bucket.refill(now);
+            if (bucket.tokens >= 1) {
+                bucket.tokens -= 1;
+                return 0;
+            }
+            double rate = bucket.tokensPerNano();
+            return rate > 0 ? (long) Math.ceil((1 - bucket.tokens) / rate) : Long.MAX_VALUE;
+        }
+    }
+
+    /**
+     * Drops buckets that have been idle for the configured time and have refilled
+     * completely, so evicting them cannot hand a client extra tokens.
+     */
+    @Scheduled(fixedDelayString = "${app.rate-limit.eviction-interval:PT1M}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        long idleNanos = config.getIdleEviction().toNanos();
+        buckets.forEach((key, bucket) -> {
+            synchronized (lockFor(key)) {
+                if (now - bucket.usedAt < idleNanos) {
+                    return;
+                }
+                bucket.refill(now);
+                if (bucket.tokens >= bucket.limit.getCapacity()) {
+                    buckets.remove(key, bucket);
+                }
+            }
+        });
+    }
+
+    private Object lockFor(String key) {
+        return locks[(key.hashCode() & Integer.MAX_VALUE) % STRIPES];
+    }
+
+    private static Object[] createLocks() {
+        Object[] locks = new Object[STRIPES];
+        for (int i = 0; i < STRIPES; i++) {
+            locks[i] = new Object();
+        }
+        return locks;
+    }
+}
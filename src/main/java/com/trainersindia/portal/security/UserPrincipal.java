@@ -21,6 +21,7 @@ public class UserPrincipal implements UserDetails {
     private String password;
     private String fullName;
     private Collection<? extends GrantedAuthority> authorities;
+    private int tokenVersion;
 
     public static UserPrincipal create(User user) {
         return UserPrincipal.builder()
@@ -32,6 +33,22 @@ public class UserPrincipal implements UserDetails {
                 .authorities(user.getRoles().stream()
                         .map(SimpleGrantedAuthority::new)
                         .collect(Collectors.toList()))
+                .tokenVersion(user.getTokenVersion())
+                .build();
+    }
+
+    /**
+     * Builds the principal from verified token claims alone; email, name and password
+     * are not carried in the token and stay null.
+     */
+    public static UserPrincipal fromClaims(Long id, String username, Collection<String> roles, int tokenVersion) {
+        return UserPrincipal.builder()
+                .id(id)
+                .username(username)
+                .authorities(roles.stream()
+                        .map(SimpleGrantedAuthority::new)
+                        .collect(Collectors.toList()))
+                .tokenVersion(tokenVersion)
                 .build();
     }
 
@@ -0,0 +1,9 @@
+package com.trainersindia.portal.security;
+
+/**
+ * The parts of a user that decide whether their access tokens are still honored.
+ */
+public record UserTokenState(boolean active, int tokenVersion) {
+
+    static final UserTokenState MISSING = new UserTokenState(false, -1);
+}
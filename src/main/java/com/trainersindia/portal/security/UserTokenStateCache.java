@@ -0,0 +1,78 @@
+package com.trainersindia.portal.security;
+
+import com.trainersindia.portal.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Short-lived cache of {@link UserTokenState} by user id, so that authenticating from
+ * token claims costs at most one narrow query per user per TTL. Changes made on this
+ * instance evict the entry when they commit; otherwise a disabled user or a bumped
+ * token version is noticed within the TTL.
+ */
+@Component
+@RequiredArgsConstructor
+public class UserTokenStateCache {
+
+    private final UserRepository userRepository;
+    private final Map<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.jwt.user-state-cache.ttl:30s}")
+    private Duration ttl;
+
+    @Value("${app.jwt.user-state-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(UserTokenState state, long expiresAt) {
+    }
+
+    /**
+     * Whether a token carrying {@code tokenVersion} may still authenticate the user.
+     */
+    public boolean isCurrent(Long userId, int tokenVersion) {
+        UserTokenState state = get(userId);
+        return state.active() && state.tokenVersion() == tokenVersion;
+    }
+
+    /**
+     * Drops the cached state once the current transaction commits, or immediately when
+     * there is none.
+     */
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.remove(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.remove(userId);
+            }
+        });
+    }
+
+    private UserTokenState get(Long userId) {
+        long now = System.nanoTime();
+        Entry entry = entries.get(userId);
+        if (entry != null && now - entry.expiresAt() < 0) {
+            return entry.state();
+        }
+
+        UserTokenState state = userRepository.findTokenStateById(userId).orElse(UserTokenState.MISSING);
+        if (entries.size() >= maxEntries) {
+            entries.values().removeIf(e -> now - e.expiresAt() >= 0);
+            if (entries.size() >= maxEntries) {
+                entries.clear();
+            }
+        }
+        entries.put(userId, new Entry(state, now + ttl.toNanos()));
+        return state;
+    }
+}
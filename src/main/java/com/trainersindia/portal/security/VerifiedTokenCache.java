@@ -0,0 +1,76 @@
+package com.trainersindia.portal.security;
+
+import io.jsonwebtoken.Claims;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Claims of tokens whose signature has already been verified, keyed by the SHA-256
+ * digest of the token and kept until the token's own expiry. Once full, new tokens
+ * are not cached until expired entries make room, so a burst of one-off tokens cannot
+ * push out the clients that send the same token on every request. Cached claims are
+ * shared and must not be modified.
+ */
+@Component
+public class VerifiedTokenCache {
+
+    private final Map<ByteBuffer, Entry> entries = new ConcurrentHashMap<>();
+
+    @Value("${app.jwt.verified-token-cache.max-entries:10000}")
+    private int maxEntries;
+
+    private record Entry(Claims claims, long expiresAtMillis) {
+    }
+
+    /**
+     * The digest identifying {@code token} in this cache.
+     */
+    public ByteBuffer key(String token) {
+        try {
+            return ByteBuffer.wrap(MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * The verified claims for the key, or null if absent or past their expiry.
+     */
+    public Claims get(ByteBuffer key) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (System.currentTimeMillis() >= entry.expiresAtMillis()) {
+            entries.remove(key, entry);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    /**
+     * Caches verified claims; tokens without an expiry are never cached.
+     */
+    public void put(ByteBuffer key, Claims claims) {
+        Date expiration = claims.getExpiration();
+        if (expiration == null) {
+            return;
+        }
+        if (entries.size() >= maxEntries) {
+            long now = System.currentTimeMillis();
+            entries.values().removeIf(entry -> now >= entry.expiresAtMillis());
+            if (entries.size() >= maxEntries) {
+                return;
+            }
+        }
+        entries.put(key, new Entry(claims, expiration.getTime()));
+    }
+}
@@ -0,0 +1,18 @@
+package com.trainersindia.portal.service;
+
+import com.trainersindia.portal.dto.AdminMetricsResponse;
+
+public interface AdminMetricsService {
+    AdminMetricsResponse getMetrics(int days);
+
+    /**
+     * Counts the rows added or changed since the last run into the rollup tables.
+     */
+    void rollup();
+
+    /**
+     * Recounts recent rollup data from the source tables, picking up rows whose
+     * transactions committed after the rollup had passed them.
+     */
+    void reconcile();
+}
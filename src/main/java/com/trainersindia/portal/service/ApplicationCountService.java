@@ -0,0 +1,37 @@
+package com.trainersindia.portal.service;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+
+public interface ApplicationCountService {
+
+    /**
+     * {@code applications} applications of a post moved from one status to another;
+     * {@code from} is null for new applications.
+     */
+    record Transition(Long postId, ApplicationStatus from, ApplicationStatus to, long applications) {
+    }
+
+    /**
+     * Applies the counter changes in the caller's transaction.
+     */
+    void recordTransitions(List<Transition> transitions);
+
+    /**
+     * Counts a new application towards the company's applications for {@code day}, in
+     * the caller's transaction.
+     */
+    void recordApplication(String postedBy, LocalDate day);
+
+    Map<Long, Map<ApplicationStatus, Long>> getCounts(Collection<Long> postIds);
+
+    /**
+     * Recomputes every per-post and per-day counter from job_applications; returns the
+     * number of per-post counters written.
+     */
+    int rebuild();
+}
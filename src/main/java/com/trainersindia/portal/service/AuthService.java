@@ -19,7 +19,9 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import com.trainersindia.portal.security.AccessTokenDenylist;
 import com.trainersindia.portal.security.JwtTokenProvider;
+import com.trainersindia.portal.security.UserTokenStateCache;
 import com.trainersindia.portal.exception.UserException;
 import org.springframework.http.HttpStatus;
 import lombok.extern.slf4j.Slf4j;
@@ -41,6 +43,8 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider tokenProvider;
     private final RefreshTokenService refreshTokenService;
+    private final UserTokenStateCache userTokenStateCache;
+    private final AccessTokenDenylist accessTokenDenylist;
 
     @Transactional
     public String initiateRegistration(RegisterRequest request) {
@@ -82,6 +86,8 @@ public class AuthService {
 
             log.info("Registration initiated for user: {}", request.getEmail());
             return "Verification code sent to " + request.getEmail();
+        } catch (UserException e) {
+            throw e;
         } catch (Exception e) {
             log.error("Failed to initiate registration for {}: {}", request.getEmail(), e.getMessage());
             throw new UserException("Failed to initiate registration", HttpStatus.INTERNAL_SERVER_ERROR);
@@ -100,6 +106,7 @@ public class AuthService {
         User user = token.getUser();
         user.setActive(true);
         token.setUsed(true);
+        userTokenStateCache.evictAfterCommit(user.getId());
 
         try {
             tokenRepository.save(token);
@@ -130,11 +137,9 @@ public class AuthService {
     }
 
     public UserDetailsResponse verifyTokenAndGetDetails(String token) {
-        if (!tokenProvider.validateToken(token)) {
-            throw new UserException("Invalid token", HttpStatus.UNAUTHORIZED);
-        }
-
-        String username = tokenProvider.getUsernameFromToken(token);
+        String username = tokenProvider.parseValidToken(token)
+                .orElseThrow(() -> new UserException("Invalid token", HttpStatus.UNAUTHORIZED))
+                .getSubject();
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UserException("User not found", HttpStatus.NOT_FOUND));
         
@@ -148,6 +153,17 @@ public class AuthService {
                 .build();
     }
 
+    /**
+     * Revokes the refresh token and, when given, the access token presented with the
+     * request, so neither can be used again before it expires.
+     */
+    public void logout(String refreshToken, String accessToken) {
+        if (accessToken != null) {
+            tokenProvider.parseValidToken(accessToken).ifPresent(accessTokenDenylist::revoke);
+        }
+        refreshTokenService.revokeRefreshToken(refreshToken);
+    }
+
     public void initiatePasswordReset(PasswordResetRequest request) {
         User user = userRepository.findByEmail(request.getEmail())
                 .orElseThrow(() -> new UserException("User not found with this email", HttpStatus.NOT_FOUND));
@@ -195,7 +211,12 @@ public class AuthService {
 
             User user = token.getUser();
             user.setPassword(passwordEncoder.encode(request.getNewPassword()));
+            // Sign out every session that was using the old password
+            user.setTokenVersion(user.getTokenVersion() + 1);
+            // Otherwise a refresh token would mint access tokens carrying the new version
+            refreshTokenService.revokeAllUserTokens(user);
             token.setUsed(true);
+            userTokenStateCache.evictAfterCommit(user.getId());
 
             tokenRepository.save(token);
             userRepository.save(user);
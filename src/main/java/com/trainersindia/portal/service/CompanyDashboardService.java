@@ -0,0 +1,7 @@
+package com.trainersindia.portal.service;
+
+import com.trainersindia.portal.dto.CompanyDashboardResponse;
+
+public interface CompanyDashboardService {
+    CompanyDashboardResponse getDashboard(String postedBy);
+}
@@ -0,0 +1,13 @@
+package com.trainersindia.portal.service;
+
+import com.trainersindia.portal.dto.ExportFormat;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+/**
+ * Exports are validated when requested and streamed from a database cursor when the
+ * response body is written. A null {@code postedBy} exports every company's data.
+ */
+public interface ExportService {
+    StreamingResponseBody exportPosts(String postedBy, ExportFormat format);
+    StreamingResponseBody exportApplications(String postedBy, Long postId, ExportFormat format);
+}
@@ -1,16 +1,20 @@
 package com.trainersindia.portal.service;
 
+import com.trainersindia.portal.dto.ApplicationStatusBatchRequest;
+import com.trainersindia.portal.dto.ApplicationStatusBatchResponse;
 import com.trainersindia.portal.dto.JobApplicationRequest;
 import com.trainersindia.portal.dto.JobApplicationResponse;
 import com.trainersindia.portal.entity.ApplicationStatus;
-
-import java.util.List;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 public interface JobApplicationService {
     JobApplicationResponse apply(JobApplicationRequest request, String username);
     JobApplicationResponse withdraw(Long applicationId, String username);
     JobApplicationResponse updateStatus(Long applicationId, ApplicationStatus status, String username);
-    List<JobApplicationResponse> getTrainerApplications(String username);
-    List<JobApplicationResponse> getJobApplications(Long postId, String username);
+    ApplicationStatusBatchResponse updateStatuses(ApplicationStatusBatchRequest request, String username);
+    Page<JobApplicationResponse> getTrainerApplications(String username, ApplicationStatus status, Pageable pageable);
+    Page<JobApplicationResponse> getJobApplications(Long postId, ApplicationStatus status, String username,
+                                                    Pageable pageable);
     JobApplicationResponse getApplication(Long applicationId, String username);
 } 
\ No newline at end of file
@@ -0,0 +1,11 @@
+package com.trainersindia.portal.service;
+
+import com.trainersindia.portal.dto.CandidateResponse;
+import com.trainersindia.portal.dto.JobRecommendationResponse;
+
+import java.util.List;
+
+public interface MatchingService {
+    List<JobRecommendationResponse> recommendJobs(String username, int limit);
+    List<CandidateResponse> rankCandidates(Long postId, String username, int limit);
+}
@@ -0,0 +1,14 @@
+package com.trainersindia.portal.service;
+
+import com.trainersindia.portal.dto.PostImportReport;
+import org.springframework.http.MediaType;
+
+import java.io.InputStream;
+
+public interface PostImportService {
+    /**
+     * Imports posts from a JSON array, NDJSON or CSV body. Rows are validated one by
+     * one and committed in chunks, so rows before a failing chunk stay imported.
+     */
+    PostImportReport importPosts(InputStream input, MediaType contentType, String postedBy);
+}
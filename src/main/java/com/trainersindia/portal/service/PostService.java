@@ -1,7 +1,16 @@
 package com.trainersindia.portal.service;
 
+import com.trainersindia.portal.dto.CompanyPostSummary;
+import com.trainersindia.portal.dto.CursorPage;
+import com.trainersindia.portal.dto.JobFacetsResponse;
 import com.trainersindia.portal.dto.PostRequest;
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.dto.SuggestionResponse;
 import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.search.SuggestionIndex;
+import com.trainersindia.portal.util.EntityVersion;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 
@@ -10,11 +19,16 @@ public interface PostService {
     Post updatePost(Long id, PostRequest postRequest, String postedBy);
     void deletePost(Long id, String postedBy);
     Post getPost(Long id);
-    List<Post> getAllPosts();
-    List<Post> getPostsByCompany(String postedBy);
+    EntityVersion getPostVersion(Long id);
+    CursorPage<CompanyPostSummary> getPostsByCompany(String postedBy, String cursor, int size);
     
     // New methods for trainers
-    List<Post> searchJobs(String location, String jobType, String experienceLevel, List<String> skills);
-    List<Post> getRecentJobs();
-    List<Post> searchJobsByKeyword(String keyword);
+    Page<PostSummary> searchJobs(String location, String jobType, String experienceLevel, List<String> skills, Pageable pageable);
+    CursorPage<PostSummary> scrollJobs(String location, String jobType, String experienceLevel, List<String> skills,
+                                String cursor, int size);
+    CursorPage<PostSummary> getRecentJobs(String cursor, int size);
+    Page<PostSummary> searchJobsByKeyword(String keyword, Pageable pageable);
+    JobFacetsResponse getJobFacets(String location, String jobType, String experienceLevel, List<String> skills,
+                                   int topSkills);
+    List<SuggestionResponse> suggest(String prefix, SuggestionIndex.Type type, int limit);
 } 
\ No newline at end of file
@@ -0,0 +1,420 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.dto.AdminMetricsResponse;
+import com.trainersindia.portal.entity.MetricBucket;
+import com.trainersindia.portal.entity.MetricTotal;
+import com.trainersindia.portal.entity.MetricUserState;
+import com.trainersindia.portal.entity.MetricWatermark;
+import com.trainersindia.portal.exception.UserException;
+import com.trainersindia.portal.repository.MetricBucketRepository;
+import com.trainersindia.portal.repository.MetricTotalRepository;
+import com.trainersindia.portal.repository.MetricUserStateRepository;
+import com.trainersindia.portal.repository.MetricWatermarkRepository;
+import com.trainersindia.portal.service.AdminMetricsService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Platform metrics are counted into hourly buckets and running totals by a scheduled
+ * rollup. Each source table is read in (timestamp, id) order from a stored watermark,
+ * so a run only touches rows added or changed since the previous one. Rows younger
+ * than {@code app.metrics.rollup.lag} are left for the next run, giving transactions
+ * that were in flight at the previous run time to commit. A row whose transaction
+ * commits later than that falls behind the watermark; the daily reconciliation
+ * recounts the hourly buckets of the last few days from the source tables, corrects
+ * the storage totals by the difference, and recounts recently updated users whose
+ * recorded state is out of sync. It only reads rows inside that window.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdminMetricsServiceImpl implements AdminMetricsService {
+
+    private static final int MAX_DAYS = 365;
+    private static final LocalDateTime START = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private static final String POSTS_CREATED = "posts.created";
+    private static final String APPLICATIONS_CREATED = "applications.created";
+    private static final String FILES_UPLOADED = "files.uploaded";
+    private static final String BYTES_UPLOADED = "files.bytes";
+    private static final String USERS_REGISTERED = "users.registered";
+    private static final String USERS = "users";
+    private static final String STORAGE = "storage";
+
+    private static final String POSTS_SINCE = "SELECT id, created_at AS seen_at FROM posts "
+            + "WHERE (created_at, id) > (?, ?) AND created_at <= ? ORDER BY created_at, id LIMIT ?";
+    private static final String APPLICATIONS_SINCE = "SELECT id, created_at AS seen_at FROM job_applications "
+            + "WHERE (created_at, id) > (?, ?) AND created_at <= ? ORDER BY created_at, id LIMIT ?";
+    private static final String FILES_SINCE = "SELECT id, created_at AS seen_at, COALESCE(file_size, 0) AS bytes "
+            + "FROM file_info WHERE (created_at, id) > (?, ?) AND created_at <= ? ORDER BY created_at, id LIMIT ?";
+    private static final String USERS_SINCE = "SELECT u.id, u.updated_at AS seen_at, u.created_at, u.active, "
+            + "COALESCE(STRING_AGG(r.role, ',' ORDER BY r.role), '') AS roles "
+            + "FROM users u LEFT JOIN user_roles r ON r.user_id = u.id "
+            + "WHERE (u.updated_at, u.id) > (?, ?) AND u.updated_at <= ? "
+            + "GROUP BY u.id ORDER BY u.updated_at, u.id LIMIT ?";
+
+    private static final String USERS_OUT_OF_SYNC = "SELECT u.id, u.updated_at AS seen_at, u.created_at, u.active, "
+            + "COALESCE(STRING_AGG(r.role, ',' ORDER BY r.role), '') AS roles "
+            + "FROM users u LEFT JOIN user_roles r ON r.user_id = u.id "
+            + "LEFT JOIN metric_user_states s ON s.user_id = u.id "
+            + "WHERE u.updated_at >= ? AND (u.updated_at, u.id) <= (?, ?) "
+            + "GROUP BY u.id, s.user_id, s.roles, s.verified "
+            + "HAVING s.user_id IS NULL OR s.verified <> u.active "
+            + "OR s.roles <> COALESCE(STRING_AGG(r.role, ',' ORDER BY r.role), '') "
+            + "ORDER BY u.updated_at, u.id LIMIT ?";
+    private static final String SUM_BUCKETS = "SELECT COALESCE(SUM(amount), 0) FROM metric_hourly_buckets "
+            + "WHERE metric = ? AND bucket_start >= ? AND bucket_start < ?";
+    private static final String DELETE_BUCKETS = "DELETE FROM metric_hourly_buckets "
+            + "WHERE metric = ? AND bucket_start >= ? AND bucket_start < ?";
+    // Formatted with an amount expression and a table name from the constants in reconcile()
+    private static final String RECOUNT_BUCKETS = "INSERT INTO metric_hourly_buckets (metric, bucket_start, dimension, amount) "
+            + "SELECT ?, DATE_TRUNC('hour', created_at), '', %s FROM %s "
+            + "WHERE created_at >= ? AND created_at < ? GROUP BY DATE_TRUNC('hour', created_at)";
+
+    private static final String ADD_TO_BUCKET = "INSERT INTO metric_hourly_buckets (metric, bucket_start, dimension, amount) "
+            + "VALUES (?, ?, ?, ?) ON CONFLICT (metric, bucket_start, dimension) DO UPDATE "
+            + "SET amount = metric_hourly_buckets.amount + EXCLUDED.amount";
+    private static final String ADD_TO_TOTAL = "INSERT INTO metric_totals (metric, dimension, amount) "
+            + "VALUES (?, ?, ?) ON CONFLICT (metric, dimension) DO UPDATE "
+            + "SET amount = metric_totals.amount + EXCLUDED.amount";
+    private static final String SAVE_USER_STATE = "INSERT INTO metric_user_states (user_id, roles, verified) "
+            + "VALUES (?, ?, ?) ON CONFLICT (user_id) DO UPDATE "
+            + "SET roles = EXCLUDED.roles, verified = EXCLUDED.verified";
+
+    private final MetricBucketRepository bucketRepository;
+    private final MetricTotalRepository totalRepository;
+    private final MetricWatermarkRepository watermarkRepository;
+    private final MetricUserStateRepository userStateRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.metrics.rollup.batch-size:1000}")
+    private int batchSize;
+
+    @Value("${app.metrics.rollup.lag:PT1M}")
+    private Duration lag;
+
+    @Value("${app.metrics.reconcile.days:2}")
+    private int reconcileDays;
+
+    /**
+     * A source row with its position in the source's (timestamp, id) order.
+     */
+    private interface SourceRow {
+        long id();
+
+        LocalDateTime seenAt();
+    }
+
+    private record CreatedRow(long id, LocalDateTime seenAt) implements SourceRow {
+    }
+
+    private record FileRow(long id, LocalDateTime seenAt, long bytes) implements SourceRow {
+    }
+
+    private record UserRow(long id, LocalDateTime seenAt, LocalDateTime createdAt, boolean verified, String roles)
+            implements SourceRow {
+    }
+
+    /**
+     * Bucket and total changes of one batch, applied together with its watermark.
+     */
+    private static final class Deltas {
+        private final Map<MetricBucket.Key, Long> buckets = new HashMap<>();
+        private final Map<MetricTotal.Key, Long> totals = new HashMap<>();
+
+        void bucket(String metric, LocalDateTime at, String dimension, long amount) {
+            buckets.merge(new MetricBucket.Key(metric, at.truncatedTo(ChronoUnit.HOURS), dimension), amount, Long::sum);
+        }
+
+        void total(String metric, String dimension, long amount) {
+            totals.merge(new MetricTotal.Key(metric, dimension), amount, Long::sum);
+        }
+    }
+
+    @Override
+    @Scheduled(fixedDelayString = "${app.metrics.rollup.interval:PT1M}")
+    public void rollup() {
+        LocalDateTime cutoff = LocalDateTime.now().minus(lag);
+        int rows = 0;
+        rows += rollupSource("posts", POSTS_SINCE, cutoff, this::mapCreated,
+                (batch, deltas) -> batch.forEach(row -> deltas.bucket(POSTS_CREATED, row.seenAt(), "", 1)));
+        rows += rollupSource("job_applications", APPLICATIONS_SINCE, cutoff, this::mapCreated,
+                (batch, deltas) -> batch.forEach(row -> deltas.bucket(APPLICATIONS_CREATED, row.seenAt(), "", 1)));
+        rows += rollupSource("file_info", FILES_SINCE, cutoff, this::mapFile, this::addFiles);
+        rows += rollupSource("users", USERS_SINCE, cutoff, this::mapUser, this::addUsers);
+        if (rows > 0) {
+            log.debug("Rolled up {} rows into platform metrics", rows);
+        }
+    }
+
+    /**
+     * Replaces the hourly buckets of the last {@code app.metrics.reconcile.days} days with
+     * counts from the source tables, up to the hour each watermark has reached. Storage
+     * totals were built from the same rows as the file buckets, so they move by however
+     * much the recount changed those buckets. Users updated in the same window are
+     * recounted if their recorded state is out of sync. Each source is reconciled under
+     * its watermark lock, so it cannot interleave with a rollup batch.
+     */
+    @Override
+    @Scheduled(cron = "${app.metrics.reconcile.cron:0 45 3 * * *}")
+    public void reconcile() {
+        LocalDateTime from = LocalDate.now().minusDays(reconcileDays).atStartOfDay();
+        transactionTemplate.executeWithoutResult(status -> {
+            MetricWatermark watermark = lockWatermark("posts");
+            recountBuckets(POSTS_CREATED, "posts", "COUNT(*)", from, watermark);
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            MetricWatermark watermark = lockWatermark("job_applications");
+            recountBuckets(APPLICATIONS_CREATED, "job_applications", "COUNT(*)", from, watermark);
+        });
+        transactionTemplate.executeWithoutResult(status -> {
+            MetricWatermark watermark = lockWatermark("file_info");
+            Deltas deltas = new Deltas();
+            deltas.total(STORAGE, "files", recountBuckets(FILES_UPLOADED, "file_info", "COUNT(*)", from, watermark));
+            deltas.total(STORAGE, "bytes",
+                    recountBuckets(BYTES_UPLOADED, "file_info", "SUM(COALESCE(file_size, 0))", from, watermark));
+            apply(deltas);
+        });
+        int users = reconcileUsers(from);
+        log.info("Reconciled platform metrics since {}; {} users were out of sync", from, users);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public AdminMetricsResponse getMetrics(int days) {
+        if (days < 1 || days > MAX_DAYS) {
+            throw new UserException("days must be between 1 and " + MAX_DAYS, HttpStatus.BAD_REQUEST);
+        }
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(days - 1);
+
+        Map<String, Map<LocalDate, Long>> daily = new HashMap<>();
+        for (MetricBucket bucket : bucketRepository.findByMetricInAndBucketStartGreaterThanEqual(
+                List.of(USERS_REGISTERED, POSTS_CREATED, APPLICATIONS_CREATED, FILES_UPLOADED, BYTES_UPLOADED),
+                from.atStartOfDay())) {
+            daily.computeIfAbsent(bucket.getMetric(), m -> new HashMap<>())
+                    .merge(bucket.getBucketStart().toLocalDate(), bucket.getAmount(), Long::sum);
+        }
+        List<AdminMetricsResponse.DailyMetrics> perDay = new ArrayList<>(days);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            perDay.add(new AdminMetricsResponse.DailyMetrics(day,
+                    dailyAmount(daily, USERS_REGISTERED, day),
+                    dailyAmount(daily, POSTS_CREATED, day),
+                    dailyAmount(daily, APPLICATIONS_CREATED, day),
+                    dailyAmount(daily, FILES_UPLOADED, day),
+                    dailyAmount(daily, BYTES_UPLOADED, day)));
+        }
+
+        List<AdminMetricsResponse.UserCount> users = new ArrayList<>();
+        Map<String, Long> storage = new HashMap<>();
+        for (MetricTotal total : totalRepository.findByMetricIn(List.of(USERS, STORAGE))) {
+            if (USERS.equals(total.getMetric())) {
+                String[] roleAndState = total.getDimension().split(":", 2);
+                users.add(new AdminMetricsResponse.UserCount(
+                        roleAndState[0], "verified".equals(roleAndState[1]), total.getAmount()));
+            } else {
+                storage.put(total.getDimension(), total.getAmount());
+            }
+        }
+        users.sort(Comparator.comparing(AdminMetricsResponse.UserCount::role)
+                .thenComparing(AdminMetricsResponse.UserCount::verified, Comparator.reverseOrder()));
+
+        LocalDateTime rolledUpTo = watermarkRepository.findAll().stream()
+                .map(MetricWatermark::getLastSeenAt)
+                .min(LocalDateTime::compareTo)
+                .orElse(null);
+
+        return new AdminMetricsResponse(users, perDay,
+                new AdminMetricsResponse.Storage(storage.getOrDefault("files", 0L), storage.getOrDefault("bytes", 0L)),
+                rolledUpTo);
+    }
+
+    private static long dailyAmount(Map<String, Map<LocalDate, Long>> daily, String metric, LocalDate day) {
+        return daily.getOrDefault(metric, Map.of()).getOrDefault(day, 0L);
+    }
+
+    /**
+     * Processes the source in batches until it is caught up to {@code cutoff}. Each batch
+     * holds the watermark lock and commits its deltas together with the advanced
+     * watermark, so every row is counted exactly once even if a run fails part way or
+     * runs overlap.
+     */
+    private <T extends SourceRow> int rollupSource(String source, String sql, LocalDateTime cutoff,
+                                                   RowMapper<T> mapper, BiConsumer<List<T>, Deltas> rollup) {
+        int total = 0;
+        while (true) {
+            Integer rows = transactionTemplate.execute(status -> {
+                MetricWatermark watermark = lockWatermark(source);
+                List<T> batch = jdbcTemplate.query(sql, mapper,
+                        watermark.getLastSeenAt(), watermark.getLastId(), cutoff, batchSize);
+                if (batch.isEmpty()) {
+                    return 0;
+                }
+
+                Deltas deltas = new Deltas();
+                rollup.accept(batch, deltas);
+                apply(deltas);
+
+                T last = batch.get(batch.size() - 1);
+                watermark.setLastSeenAt(last.seenAt());
+                watermark.setLastId(last.id());
+                watermarkRepository.save(watermark);
+                return batch.size();
+            });
+            total += rows;
+            if (rows < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private MetricWatermark lockWatermark(String source) {
+        watermarkRepository.insertIfAbsent(source, START);
+        return watermarkRepository.findForUpdateBySource(source);
+    }
+
+    /**
+     * Rebuilds the metric's buckets from {@code from} up to the start of the watermark's
+     * hour and returns how much their sum changed. Every row before that hour is at or
+     * behind the watermark, so the rollup would have counted it had its transaction
+     * committed in time.
+     */
+    private long recountBuckets(String metric, String table, String amount, LocalDateTime from,
+                                MetricWatermark watermark) {
+        LocalDateTime until = watermark.getLastSeenAt().truncatedTo(ChronoUnit.HOURS);
+        if (!until.isAfter(from)) {
+            return 0;
+        }
+        long before = jdbcTemplate.queryForObject(SUM_BUCKETS, Long.class, metric, from, until);
+        jdbcTemplate.update(DELETE_BUCKETS, metric, from, until);
+        jdbcTemplate.update(RECOUNT_BUCKETS.formatted(amount, table), metric, from, until);
+        return jdbcTemplate.queryForObject(SUM_BUCKETS, Long.class, metric, from, until) - before;
+    }
+
+    /**
+     * Counts users updated between {@code from} and the watermark whose recorded state
+     * does not match the users table, which is only the case for updates that committed
+     * after the rollup had passed them.
+     */
+    private int reconcileUsers(LocalDateTime from) {
+        int total = 0;
+        while (true) {
+            Integer rows = transactionTemplate.execute(status -> {
+                MetricWatermark watermark = lockWatermark("users");
+                List<UserRow> batch = jdbcTemplate.query(USERS_OUT_OF_SYNC, this::mapUser,
+                        from, watermark.getLastSeenAt(), watermark.getLastId(), batchSize);
+                Deltas deltas = new Deltas();
+                addUsers(batch, deltas);
+                apply(deltas);
+                return batch.size();
+            });
+            total += rows;
+            if (rows < batchSize) {
+                return total;
+            }
+        }
+    }
+
+    private void addFiles(List<FileRow> batch, Deltas deltas) {
+        for (FileRow row : batch) {
+            deltas.bucket(FILES_UPLOADED, row.seenAt(), "", 1);
+            deltas.bucket(BYTES_UPLOADED, row.seenAt(), "", row.bytes());
+            deltas.total(STORAGE, "files", 1);
+            deltas.total(STORAGE, "bytes", row.bytes());
+        }
+    }
+
+    /**
+     * Users are read by update time, so a user appears again after verifying their email.
+     * The state they were last counted with is swapped for the current one.
+     */
+    private void addUsers(List<UserRow> batch, Deltas deltas) {
+        Map<Long, MetricUserState> previous = userStateRepository
+                .findAllById(batch.stream().map(UserRow::id).toList()).stream()
+                .collect(Collectors.toMap(MetricUserState::getUserId, Function.identity()));
+
+        List<Object[]> states = new ArrayList<>(batch.size());
+        for (UserRow row : batch) {
+            MetricUserState before = previous.get(row.id());
+            if (before == null) {
+                for (String role : roles(row.roles())) {
+                    deltas.bucket(USERS_REGISTERED, row.createdAt(), role, 1);
+                }
+            } else {
+                if (before.getRoles().equals(row.roles()) && before.isVerified() == row.verified()) {
+                    continue;
+                }
+                for (String role : roles(before.getRoles())) {
+                    deltas.total(USERS, userDimension(role, before.isVerified()), -1);
+                }
+            }
+            for (String role : roles(row.roles())) {
+                deltas.total(USERS, userDimension(role, row.verified()), 1);
+            }
+            states.add(new Object[]{row.id(), row.roles(), row.verified()});
+        }
+        jdbcTemplate.batchUpdate(SAVE_USER_STATE, states);
+    }
+
+    private static String userDimension(String role, boolean verified) {
+        return role + ":" + (verified ? "verified" : "unverified");
+    }
+
+    private static List<String> roles(String roles) {
+        return roles.isEmpty() ? List.of() : List.of(roles.split(","));
+    }
+
+    private void apply(Deltas deltas) {
+        List<Object[]> buckets = new ArrayList<>();
+        deltas.buckets.forEach((key, amount) -> {
+            if (amount != 0) {
+                buckets.add(new Object[]{key.getMetric(), key.getBucketStart(), key.getDimension(), amount});
+            }
+        });
+        List<Object[]> totals = new ArrayList<>();
+        deltas.totals.forEach((key, amount) -> {
+            if (amount != 0) {
+                totals.add(new Object[]{key.getMetric(), key.getDimension(), amount});
+            }
+        });
+        jdbcTemplate.batchUpdate(ADD_TO_BUCKET, buckets);
+        jdbcTemplate.batchUpdate(ADD_TO_TOTAL, totals);
+    }
+
+    private CreatedRow mapCreated(ResultSet rs, int rowNum) throws SQLException {
+        return new CreatedRow(rs.getLong("id"), rs.getObject("seen_at", LocalDateTime.class));
+    }
+
+    private FileRow mapFile(ResultSet rs, int rowNum) throws SQLException {
+        return new FileRow(rs.getLong("id"), rs.getObject("seen_at", LocalDateTime.class), rs.getLong("bytes"));
+    }
+
+    private UserRow mapUser(ResultSet rs, int rowNum) throws SQLException {
+        return new UserRow(rs.getLong("id"), rs.getObject("seen_at", LocalDateTime.class),
+                rs.getObject("created_at", LocalDateTime.class), rs.getBoolean("active"), rs.getString("roles"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+import com.trainersindia.portal.entity.PostApplicationCount;
+import com.trainersindia.portal.repository.CompanyApplicationDayRepository;
+import com.trainersindia.portal.repository.PostApplicationCountRepository;
+import com.trainersindia.portal.service.ApplicationCountService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ApplicationCountServiceImpl implements ApplicationCountService {
+
+    // Counters are always updated in this order so concurrent transactions cannot deadlock on them
+    private static final Comparator<PostApplicationCount.Key> LOCK_ORDER = Comparator
+            .comparing(PostApplicationCount.Key::getPostId)
+            .thenComparing(PostApplicationCount.Key::getStatus);
+
+    private final PostApplicationCountRepository countRepository;
+    private final CompanyApplicationDayRepository dayRepository;
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordTransitions(List<Transition> transitions) {
+        Map<PostApplicationCount.Key, Long> deltas = new TreeMap<>(LOCK_ORDER);
+        for (Transition transition : transitions) {
+            if (transition.from() == transition.to() || transition.applications() == 0) {
+                continue;
+            }
+            if (transition.from() != null) {
+                deltas.merge(new PostApplicationCount.Key(transition.postId(), transition.from()),
+                        -transition.applications(), Long::sum);
+            }
+            deltas.merge(new PostApplicationCount.Key(transition.postId(), transition.to()),
+                    transition.applications(), Long::sum);
+        }
+
+        deltas.forEach((key, delta) -> {
+            if (delta != 0) {
+                countRepository.increment(key.getPostId(), key.getStatus().name(), delta);
+            }
+        });
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordApplication(String postedBy, LocalDate day) {
+        dayRepository.increment(postedBy, day, 1);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Map<Long, Map<ApplicationStatus, Long>> getCounts(Collection<Long> postIds) {
+        Map<Long, Map<ApplicationStatus, Long>> counts = new HashMap<>();
+        if (postIds.isEmpty()) {
+            return counts;
+        }
+        for (PostApplicationCount count : countRepository.findByPostIdIn(postIds)) {
+            if (count.getApplicationCount() != 0) {
+                counts.computeIfAbsent(count.getPostId(), id -> new EnumMap<>(ApplicationStatus.class))
+                        .put(count.getStatus(), count.getApplicationCount());
+            }
+        }
+        return counts;
+    }
+
+    @Override
+    @Transactional
+    @Scheduled(cron = "${app.application-counts.reconcile-cron:0 30 3 * * *}")
+    public int rebuild() {
+        // Same table order as recordTransitions followed by recordApplication
+        countRepository.lockForRebuild();
+        dayRepository.lockForRebuild();
+        countRepository.deleteAllCounts();
+        dayRepository.deleteAllCounts();
+        int written = countRepository.insertCountsFromApplications();
+        int days = dayRepository.insertCountsFromApplications();
+        log.info("Rebuilt {} post application counters and {} daily company counters", written, days);
+        return written;
+    }
+}
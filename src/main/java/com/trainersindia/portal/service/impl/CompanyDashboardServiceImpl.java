@@ -0,0 +1,119 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.dto.CompanyDashboardResponse;
+import com.trainersindia.portal.entity.ApplicationStatus;
+import com.trainersindia.portal.entity.CompanyApplicationDay;
+import com.trainersindia.portal.repository.CompanyApplicationDayRepository;
+import com.trainersindia.portal.repository.PostApplicationCountRepository;
+import com.trainersindia.portal.search.CompanyPostIndex;
+import com.trainersindia.portal.service.CompanyDashboardService;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.function.Supplier;
+
+/**
+ * Assembles the dashboard from pre-aggregated data only: post counts from
+ * {@link CompanyPostIndex} and application counts from the counter tables. The
+ * independent counter reads run concurrently, one virtual thread each. Each read holds
+ * a pooled connection, so the number running at once across all requests is capped by
+ * {@code app.company-dashboard.max-concurrent-queries}, which must stay well below the
+ * connection pool size.
+ */
+@Service
+@RequiredArgsConstructor
+public class CompanyDashboardServiceImpl implements CompanyDashboardService {
+
+    private static final int DAYS = 30;
+    private static final int TOP_POSTS = 5;
+
+    private final CompanyPostIndex companyPostIndex;
+    private final PostApplicationCountRepository countRepository;
+    private final CompanyApplicationDayRepository dayRepository;
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.company-dashboard.max-concurrent-queries:4}")
+    private int maxConcurrentQueries;
+
+    private Semaphore queryPermits;
+
+    @PostConstruct
+    void init() {
+        queryPermits = new Semaphore(maxConcurrentQueries, true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    @Override
+    public CompanyDashboardResponse getDashboard(String postedBy) {
+        LocalDate today = LocalDate.now();
+        LocalDate from = today.minusDays(DAYS - 1);
+
+        CompletableFuture<List<CompanyDashboardResponse.StatusCount>> byStatus = query(
+                () -> countRepository.sumByStatusForCompany(postedBy));
+        CompletableFuture<List<CompanyApplicationDay>> days = query(
+                () -> dayRepository.findByPostedByAndDayGreaterThanEqual(postedBy, from));
+        CompletableFuture<List<CompanyDashboardResponse.TopPost>> topPosts = query(
+                () -> countRepository.findTopPostsForCompany(postedBy, Limit.of(TOP_POSTS)));
+
+        CompanyPostIndex.PostCounts posts = companyPostIndex.counts(postedBy, today);
+
+        Map<ApplicationStatus, Long> applicationsByStatus = new EnumMap<>(ApplicationStatus.class);
+        for (ApplicationStatus status : ApplicationStatus.values()) {
+            applicationsByStatus.put(status, 0L);
+        }
+        join(byStatus).forEach(count -> applicationsByStatus.put(count.status(), count.applications()));
+        long total = applicationsByStatus.values().stream().mapToLong(Long::longValue).sum();
+
+        Map<LocalDate, Long> countsByDay = new HashMap<>();
+        join(days).forEach(day -> countsByDay.put(day.getDay(), day.getApplicationCount()));
+        List<CompanyDashboardResponse.DailyApplications> perDay = new ArrayList<>(DAYS);
+        for (LocalDate day = from; !day.isAfter(today); day = day.plusDays(1)) {
+            perDay.add(new CompanyDashboardResponse.DailyApplications(day, countsByDay.getOrDefault(day, 0L)));
+        }
+
+        return new CompanyDashboardResponse(posts.open(), posts.expired(), applicationsByStatus, total, perDay,
+                join(topPosts));
+    }
+
+    private <T> CompletableFuture<T> query(Supplier<T> query) {
+        return CompletableFuture.supplyAsync(() -> {
+            // Virtual threads wait here cheaply instead of queueing on the connection pool
+            queryPermits.acquireUninterruptibly();
+            try {
+                return query.get();
+            } finally {
+                queryPermits.release();
+            }
+        }, executor);
+    }
+
+    private static <T> T join(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.trainersindia.portal.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainersindia.portal.dto.ApplicationExportRow;
+import com.trainersindia.portal.dto.ExportFormat;
+import com.trainersindia.portal.dto.PostExportRow;
+import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.exception.UserException;
+import com.trainersindia.portal.repository.JobApplicationRepository;
+import com.trainersindia.portal.repository.PostRepository;
+import com.trainersindia.portal.service.ExportService;
+import com.trainersindia.portal.util.ExportWriter;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+@Service
+public class ExportServiceImpl implements ExportService {
+
+    private final PostRepository postRepository;
+    private final JobApplicationRepository applicationRepository;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public ExportServiceImpl(PostRepository postRepository, JobApplicationRepository applicationRepository,
+                             ObjectMapper objectMapper, PlatformTransactionManager transactionManager) {
+        this.postRepository = postRepository;
+        this.applicationRepository = applicationRepository;
+        this.objectMapper = objectMapper;
+        // The PostgreSQL driver only honors the fetch size inside a transaction
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    @Override
+    public StreamingResponseBody exportPosts(String postedBy, ExportFormat format) {
+        return out -> stream(() -> postRepository.streamExportRows(postedBy), PostExportRow.class, format, out,
+                ExportServiceImpl::writeMergingSkills);
+    }
+
+    @Override
+    public StreamingResponseBody exportApplications(String postedBy, Long postId, ExportFormat format) {
+        if (postId != null) {
+            Post post = postRepository.findById(postId)
+                    .orElseThrow(() -> new UserException("Job post not found", HttpStatus.NOT_FOUND));
+            if (postedBy != null && !post.getPostedBy().equals(postedBy)) {
+                throw new UserException("Not authorized to view applications for this post", HttpStatus.FORBIDDEN);
+            }
+        }
+
+        return out -> stream(() -> applicationRepository.streamExportRows(postedBy, postId),
+                ApplicationExportRow.class, format, out, (rows, writer) -> {
+                    Iterator<ApplicationExportRow> iterator = rows.iterator();
+                    while (iterator.hasNext()) {
+                        writer.write(iterator.next());
+                    }
+                });
+    }
+
+    private interface RowCopier<T extends Record> {
+        void copy(Stream<T> rows, ExportWriter<T> writer) throws IOException;
+    }
+
+    private interface RowQuery<T> {
+        Stream<T> open();
+    }
+
+    private <T extends Record> void stream(RowQuery<T> query, Class<T> type, ExportFormat format,
+                                           OutputStream out, RowCopier<T> copier) throws IOException {
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> {
+                try (Stream<T> rows = query.open(); ExportWriter<T> writer =
+                        new ExportWriter<>(format, type, out, objectMapper)) {
+                    copier.copy(rows, writer);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    /**
+     * Rows arrive ordered by post id with one row per skill; only the post being
+     * assembled is held in memory.
+     */
+    private static void writeMergingSkills(Stream<PostExportRow> rows, ExportWriter<PostExportRow> writer)
+            throws IOException {
+        PostExportRow current = null;
+        Iterator<PostExportRow> iterator = rows.iterator();
+        while (iterator.hasNext()) {
+            PostExportRow row = iterator.next();
+            if (current != null && current.id().equals(row.id())) {
+                current.skills().addAll(row.skills());
+                continue;
+            }
+            if (current != null) {
+                writer.write(current);
+            }
+            current = row;
+        }
+        if (current != null) {
+            writer.write(current);
+        }
+    }
+}
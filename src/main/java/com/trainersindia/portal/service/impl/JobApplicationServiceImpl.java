@@ -1,5 +1,8 @@
 package com.trainersindia.portal.service.impl;
 
+import com.trainersindia.portal.dto.ApplicationOwnership;
+import com.trainersindia.portal.dto.ApplicationStatusBatchRequest;
+import com.trainersindia.portal.dto.ApplicationStatusBatchResponse;
 import com.trainersindia.portal.dto.JobApplicationRequest;
 import com.trainersindia.portal.dto.JobApplicationResponse;
 import com.trainersindia.portal.entity.*;
@@ -8,14 +11,25 @@ import com.trainersindia.portal.repository.JobApplicationRepository;
 import com.trainersindia.portal.repository.PostRepository;
 import com.trainersindia.portal.repository.TrainerProfileRepository;
 import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.service.ApplicationCountService;
 import com.trainersindia.portal.service.JobApplicationService;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
@@ -26,6 +40,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
     private final TrainerProfileRepository profileRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final ApplicationCountService applicationCountService;
 
     @Override
     @Transactional
@@ -53,7 +68,12 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         application.setCoverLetter(request.getCoverLetter());
         application.setStatus(ApplicationStatus.PENDING);
 
-        return JobApplicationResponse.fromEntity(applicationRepository.save(application));
+        JobApplication saved = applicationRepository.save(application);
+        applicationCountService.recordTransitions(List.of(
+                new ApplicationCountService.Transition(post.getId(), null, ApplicationStatus.PENDING, 1)));
+        // The day comes from created_at, as in the rebuild, so both agree at midnight
+        applicationCountService.recordApplication(post.getPostedBy(), saved.getCreatedAt().toLocalDate());
+        return JobApplicationResponse.fromEntity(saved);
     }
 
     @Override
@@ -66,53 +86,139 @@ public class JobApplicationServiceImpl implements JobApplicationService {
         }
 
         application.setStatus(ApplicationStatus.WITHDRAWN);
-        return JobApplicationResponse.fromEntity(applicationRepository.save(application));
+        JobApplication saved = applicationRepository.save(application);
+        applicationCountService.recordTransitions(List.of(new ApplicationCountService.Transition(
+                application.getPost().getId(), ApplicationStatus.PENDING, ApplicationStatus.WITHDRAWN, 1)));
+        return JobApplicationResponse.fromEntity(saved);
     }
 
     @Override
     @Transactional
     public JobApplicationResponse updateStatus(Long applicationId, ApplicationStatus status, String username) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findForUpdateById(applicationId)
                 .orElseThrow(() -> new UserException("Application not found", HttpStatus.NOT_FOUND));
 
         if (!application.getPost().getPostedBy().equals(username)) {
             throw new UserException("Not authorized to update this application", HttpStatus.FORBIDDEN);
         }
 
+        ApplicationStatus previous = application.getStatus();
         application.setStatus(status);
-        return JobApplicationResponse.fromEntity(applicationRepository.save(application));
+        JobApplication saved = applicationRepository.save(application);
+        applicationCountService.recordTransitions(List.of(new ApplicationCountService.Transition(
+                application.getPost().getId(), previous, status, 1)));
+        return JobApplicationResponse.fromEntity(saved);
     }
 
+    private record TransitionKey(Long postId, ApplicationStatus from, ApplicationStatus to) {
+    }
+
+    /**
+     * Locks and authorizes the whole batch with two queries, then issues one UPDATE per
+     * distinct (post, current status, target status). Each id's outcome reflects whether
+     * its row was actually changed; unknown, foreign and repeated ids are reported and
+     * skipped.
+     */
     @Override
-    public List<JobApplicationResponse> getTrainerApplications(String username) {
-        User user = userRepository.findByUsername(username)
-                .orElseThrow(() -> new UserException("User not found", HttpStatus.NOT_FOUND));
+    @Transactional
+    public ApplicationStatusBatchResponse updateStatuses(ApplicationStatusBatchRequest request, String username) {
+        List<ApplicationStatusBatchRequest.Update> updates = request.getUpdates();
+        List<Long> ids = updates.stream().map(ApplicationStatusBatchRequest.Update::getApplicationId).toList();
+        // Locked first so the statuses read below are the ones the updates replace
+        applicationRepository.lockByIdIn(ids);
+        Map<Long, ApplicationOwnership> ownership = applicationRepository.findOwnershipByIdIn(ids)
+                .stream()
+                .collect(Collectors.toMap(ApplicationOwnership::applicationId, Function.identity()));
+
+        Map<Long, ApplicationStatusBatchResponse.Outcome> outcomes = new HashMap<>();
+        Map<TransitionKey, List<Long>> idsByTransition = new LinkedHashMap<>();
+        for (ApplicationStatusBatchRequest.Update update : updates) {
+            Long id = update.getApplicationId();
+            ApplicationOwnership owner = ownership.get(id);
+            ApplicationStatusBatchResponse.Outcome outcome;
+            if (outcomes.containsKey(id)) {
+                continue;
+            } else if (owner == null) {
+                outcome = ApplicationStatusBatchResponse.Outcome.NOT_FOUND;
+            } else if (!owner.postedBy().equals(username)) {
+                outcome = ApplicationStatusBatchResponse.Outcome.FORBIDDEN;
+            } else if (owner.status() == update.getStatus()) {
+                outcome = ApplicationStatusBatchResponse.Outcome.UNCHANGED;
+            } else {
+                outcome = ApplicationStatusBatchResponse.Outcome.UPDATED;
+                idsByTransition.computeIfAbsent(
+                        new TransitionKey(owner.postId(), owner.status(), update.getStatus()),
+                        key -> new ArrayList<>()).add(id);
+            }
+            outcomes.put(id, outcome);
+        }
 
-        TrainerProfile trainer = profileRepository.findByUser(user)
-                .orElseThrow(() -> new UserException("Trainer profile not found", HttpStatus.NOT_FOUND));
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        List<ApplicationCountService.Transition> transitions = new ArrayList<>();
+        for (Map.Entry<TransitionKey, List<Long>> entry : idsByTransition.entrySet()) {
+            TransitionKey key = entry.getKey();
+            // Counts come from the rows actually changed, so counters stay exact under concurrent updates
+            int changed = applicationRepository.updateStatusByIdIn(entry.getValue(), key.from(), key.to(), now);
+            if (changed < entry.getValue().size()) {
+                markConflicts(entry.getValue(), key.to(), outcomes);
+            }
+            updated += changed;
+            transitions.add(new ApplicationCountService.Transition(key.postId(), key.from(), key.to(), changed));
+        }
+        applicationCountService.recordTransitions(transitions);
+
+        List<ApplicationStatusBatchResponse.Result> results = new ArrayList<>(updates.size());
+        Set<Long> seen = new HashSet<>();
+        for (ApplicationStatusBatchRequest.Update update : updates) {
+            Long id = update.getApplicationId();
+            results.add(new ApplicationStatusBatchResponse.Result(id, update.getStatus(), seen.add(id)
+                    ? outcomes.get(id)
+                    : ApplicationStatusBatchResponse.Outcome.DUPLICATE));
+        }
+        return new ApplicationStatusBatchResponse(updated, results);
+    }
 
-        return applicationRepository.findByTrainer(trainer).stream()
-                .map(JobApplicationResponse::fromEntity)
-                .collect(Collectors.toList());
+    /**
+     * Marks the ids of a group that its UPDATE did not change. The rows are locked
+     * before they are read, so this is a safeguard rather than an expected path.
+     */
+    private void markConflicts(List<Long> ids, ApplicationStatus to,
+                               Map<Long, ApplicationStatusBatchResponse.Outcome> outcomes) {
+        Map<Long, ApplicationStatus> current = applicationRepository.findOwnershipByIdIn(ids).stream()
+                .collect(Collectors.toMap(ApplicationOwnership::applicationId, ApplicationOwnership::status));
+        for (Long id : ids) {
+            if (current.get(id) != to) {
+                outcomes.put(id, ApplicationStatusBatchResponse.Outcome.CONFLICT);
+            }
+        }
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public Page<JobApplicationResponse> getTrainerApplications(String username, ApplicationStatus status,
+                                                               Pageable pageable) {
+        return applicationRepository.findResponsesByTrainerUsername(username, status, pageable);
     }
 
     @Override
-    public List<JobApplicationResponse> getJobApplications(Long postId, String username) {
-        Post post = postRepository.findById(postId)
+    @Transactional(readOnly = true)
+    public Page<JobApplicationResponse> getJobApplications(Long postId, ApplicationStatus status, String username,
+                                                           Pageable pageable) {
+        String postedBy = postRepository.findPostedByById(postId)
                 .orElseThrow(() -> new UserException("Job post not found", HttpStatus.NOT_FOUND));
 
-        if (!post.getPostedBy().equals(username)) {
+        if (!postedBy.equals(username)) {
             throw new UserException("Not authorized to view applications for this post", HttpStatus.FORBIDDEN);
         }
 
-        return applicationRepository.findByPost(post).stream()
-                .map(JobApplicationResponse::fromEntity)
-                .collect(Collectors.toList());
+        return applicationRepository.findResponsesByPostId(postId, status, pageable);
     }
 
     @Override
+    @Transactional(readOnly = true)
     public JobApplicationResponse getApplication(Long applicationId, String username) {
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findWithPostAndTrainerById(applicationId)
                 .orElseThrow(() -> new UserException("Application not found", HttpStatus.NOT_FOUND));
 
         if (!application.getTrainer().getUser().getUsername().equals(username) &&
@@ -125,7 +231,7 @@ public class JobApplicationServiceImpl implements JobApplicationService {
 
     private JobApplication getApplicationForTrainer(Long applicationId, String username) {
 
-        JobApplication application = applicationRepository.findById(applicationId)
+        JobApplication application = applicationRepository.findForUpdateById(applicationId)
                 .orElseThrow(() -> new UserException("Application not found", HttpStatus.NOT_FOUND));
 
         if (!application.getTrainer().getUser().getUsername().equals(username)) {
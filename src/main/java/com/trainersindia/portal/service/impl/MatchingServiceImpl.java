@@ -0,0 +1,97 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.dto.CandidateResponse;
+import com.trainersindia.portal.dto.JobRecommendationResponse;
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.dto.TrainerProfileResponse;
+import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.entity.TrainerProfile;
+import com.trainersindia.portal.exception.UserException;
+import com.trainersindia.portal.repository.PostRepository;
+import com.trainersindia.portal.repository.TrainerProfileRepository;
+import com.trainersindia.portal.search.JobRecommendationIndex;
+import com.trainersindia.portal.search.PostDocument;
+import com.trainersindia.portal.search.TrainerDocument;
+import com.trainersindia.portal.search.TrainerIndex;
+import com.trainersindia.portal.service.MatchingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Service
+@RequiredArgsConstructor
+public class MatchingServiceImpl implements MatchingService {
+
+    private static final int MAX_LIMIT = 50;
+
+    private final JobRecommendationIndex recommendationIndex;
+    private final TrainerIndex trainerIndex;
+    private final PostRepository postRepository;
+    private final TrainerProfileRepository profileRepository;
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<JobRecommendationResponse> recommendJobs(String username, int limit) {
+        TrainerDocument trainer = trainerIndex.findByUsername(username)
+                .orElseThrow(() -> new UserException("Trainer profile not found", HttpStatus.NOT_FOUND));
+
+        List<JobRecommendationIndex.Recommendation> recommendations =
+                recommendationIndex.recommend(trainer, Math.min(Math.max(limit, 1), MAX_LIMIT), LocalDate.now());
+        if (recommendations.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, PostSummary> postsById = postRepository.findSummariesByIdIn(recommendations.stream()
+                        .map(JobRecommendationIndex.Recommendation::postId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(PostSummary::id, Function.identity()));
+
+        return recommendations.stream()
+                .filter(recommendation -> postsById.containsKey(recommendation.postId()))
+                .map(recommendation -> new JobRecommendationResponse(
+                        postsById.get(recommendation.postId()),
+                        recommendation.score(),
+                        recommendation.matchedSkills()))
+                .collect(Collectors.toList());
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public List<CandidateResponse> rankCandidates(Long postId, String username, int limit) {
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new UserException("Post not found", HttpStatus.NOT_FOUND));
+
+        if (!post.getPostedBy().equals(username)) {
+            throw new UserException("Not authorized to view candidates for this post", HttpStatus.FORBIDDEN);
+        }
+
+        List<TrainerIndex.Candidate> candidates =
+                trainerIndex.rankFor(PostDocument.from(post), Math.min(Math.max(limit, 1), MAX_LIMIT));
+        if (candidates.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, TrainerProfile> profilesById = profileRepository.findAllWithUserByIdIn(candidates.stream()
+                        .map(TrainerIndex.Candidate::trainerId)
+                        .toList())
+                .stream()
+                .collect(Collectors.toMap(TrainerProfile::getId, Function.identity()));
+
+        return candidates.stream()
+                .filter(candidate -> profilesById.containsKey(candidate.trainerId()))
+                .map(candidate -> new CandidateResponse(
+                        TrainerProfileResponse.fromEntity(profilesById.get(candidate.trainerId())),
+                        candidate.score(),
+                        candidate.matchedSkills(),
+                        candidate.matchedCertifications()))
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,358 @@
+package com.trainersindia.portal.service.impl;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.MappingIterator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainersindia.portal.dto.PostImportReport;
+import com.trainersindia.portal.dto.PostRequest;
+import com.trainersindia.portal.entity.Post;
+import com.trainersindia.portal.entity.User;
+import com.trainersindia.portal.exception.UserException;
+import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.search.PostChangedEvent;
+import com.trainersindia.portal.service.PostImportService;
+import com.trainersindia.portal.util.CsvReader;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.core.Ordered;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class PostImportServiceImpl implements PostImportService {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static final String INSERT_POST = "INSERT INTO posts (id, title, company_name, location, job_type, "
+            + "experience_level, salary_range, description, qualifications, application_deadline, posted_by, "
+            + "contact_email, created_at, updated_at, location_normalized, job_type_normalized, "
+            + "experience_level_normalized) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final String NEXT_ID_BLOCKS =
+            "SELECT nextval('" + Post.ID_SEQUENCE + "') FROM generate_series(1, ?)";
+
+    private static final String INSERT_SKILL = "INSERT INTO post_skills (post_id, skill) VALUES (?, ?)";
+
+    private final UserRepository userRepository;
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    @Value("${app.post-import.chunk-size:100}")
+    private int chunkSize;
+
+    @Value("${app.post-import.max-rows:5000}")
+    private int maxRows;
+
+    private record PendingRow(int row, Post post) {
+    }
+
+    /**
+     * Collects valid rows into chunks and writes each full chunk in its own transaction.
+     */
+    private final class Importer {
+        private final String companyName;
+        private final String postedBy;
+        private final List<PostImportReport.Row> results = new ArrayList<>();
+        private final List<PendingRow> chunk = new ArrayList<>();
+        private int rowCount;
+
+        Importer(String companyName, String postedBy) {
+            this.companyName = companyName;
+            this.postedBy = postedBy;
+        }
+
+        /**
+         * Returns false once the row limit is reached and reading should stop.
+         */
+        boolean accept(PostRequest request) {
+            if (request == null) {
+                reject("Empty row");
+                return true;
+            }
+            int row = ++rowCount;
+            if (row > maxRows) {
+                results.add(new PostImportReport.Row(row, null,
+                        List.of("Import is limited to " + maxRows + " rows; remaining rows were not read")));
+                return false;
+            }
+
+            List<String> errors = validator.validate(request).stream()
+                    .map(ConstraintViolation::getMessage)
+                    .sorted()
+                    .toList();
+            if (!errors.isEmpty()) {
+                results.add(new PostImportReport.Row(row, null, errors));
+                return true;
+            }
+
+            chunk.add(new PendingRow(row, toPost(request, companyName, postedBy)));
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+            return true;
+        }
+
+        void reject(String message) {
+            results.add(new PostImportReport.Row(++rowCount, null, List.of(message)));
+        }
+
+        void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            List<PendingRow> rows = List.copyOf(chunk);
+            chunk.clear();
+            AtomicBoolean committed = new AtomicBoolean();
+            try {
+                transactionTemplate.executeWithoutResult(status -> {
+                    TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                        @Override
+                        public int getOrder() {
+                            return Ordered.HIGHEST_PRECEDENCE;
+                        }
+
+                        @Override
+                        public void afterCommit() {
+                            committed.set(true);
+                        }
+                    });
+                    insertChunk(rows);
+                });
+                rows.forEach(pending -> results.add(
+                        new PostImportReport.Row(pending.row(), pending.post().getId(), List.of())));
+            } catch (RuntimeException e) {
+                if (committed.get()) {
+                    // The rows are saved; only an after-commit listener failed
+                    log.error("Post import chunk of {} rows was saved but its listeners failed", rows.size(), e);
+                    rows.forEach(pending -> results.add(
+                            new PostImportReport.Row(pending.row(), pending.post().getId(), List.of())));
+                    return;
+                }
+                // Earlier chunks are already committed, so report this one and carry on
+                log.warn("Post import chunk of {} rows failed: {}", rows.size(), e.getMessage());
+                String cause = e instanceof DataAccessException dataAccess
+                        ? dataAccess.getMostSpecificCause().getMessage()
+                        : e.getMessage();
+                rows.forEach(pending -> results.add(new PostImportReport.Row(pending.row(), null,
+                        List.of("Could not save this row's chunk: " + cause))));
+            }
+        }
+
+        PostImportReport report() {
+            flush();
+            results.sort((a, b) -> Integer.compare(a.row(), b.row()));
+            int created = (int) results.stream().filter(PostImportReport.Row::isCreated).count();
+            return new PostImportReport(results.size(), created, results.size() - created, results);
+        }
+    }
+
+    @Override
+    public PostImportReport importPosts(InputStream input, MediaType contentType, String postedBy) {
+        User company = userRepository.findByUsername(postedBy)
+                .orElseThrow(() -> new UserException("Company not found", HttpStatus.NOT_FOUND));
+        Importer importer = new Importer(company.getFullName(), postedBy);
+
+        try {
+            if (contentType != null && TEXT_CSV.isCompatibleWith(contentType)) {
+                readCsv(input, importer);
+            } else {
+                readJson(input, importer);
+            }
+        } catch (IOException e) {
+            importer.reject("Could not read the rest of the input: " + e.getMessage());
+        }
+        return importer.report();
+    }
+
+    /**
+     * Accepts a JSON array of posts or newline-delimited JSON objects. A row that does
+     * not bind (for example a malformed date) is reported and skipped; a syntax error
+     * ends the import.
+     */
+    private void readJson(InputStream input, Importer importer) throws IOException {
+        try (MappingIterator<PostRequest> rows = objectMapper.readerFor(PostRequest.class).readValues(input)) {
+            while (true) {
+                PostRequest request;
+                try {
+                    if (!rows.hasNextValue()) {
+                        return;
+                    }
+                    request = rows.nextValue();
+                } catch (JsonMappingException e) {
+                    importer.reject("Invalid post: " + e.getOriginalMessage());
+                    continue;
+                } catch (JsonProcessingException e) {
+                    importer.reject("Malformed JSON: " + e.getOriginalMessage());
+                    return;
+                }
+                if (!importer.accept(request)) {
+                    return;
+                }
+            }
+        }
+    }
+
+    /**
+     * Expects a header row naming {@link PostRequest} properties (case-insensitive);
+     * skillsRequired holds skills separated by semicolons.
+     */
+    private void readCsv(InputStream input, Importer importer) throws IOException {
+        CsvReader reader = new CsvReader(new InputStreamReader(input, StandardCharsets.UTF_8));
+        List<String> header = reader.readRecord();
+        if (header == null) {
+            return;
+        }
+        Map<String, String> propertyByColumn = new HashMap<>();
+        for (String property : Set.of("title", "location", "jobType", "experienceLevel", "salaryRange",
+                "description", "skillsRequired", "qualifications", "applicationDeadline", "contactEmail")) {
+            propertyByColumn.put(property.toLowerCase(Locale.ROOT), property);
+        }
+
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < header.size() && i < record.size(); i++) {
+                String property = propertyByColumn.get(header.get(i).trim().toLowerCase(Locale.ROOT));
+                String value = record.get(i).trim();
+                if (property == null || value.isEmpty()) {
+                    continue;
+                }
+                values.put(property, property.equals("skillsRequired")
+                        ? Arrays.stream(value.split(";")).map(String::trim).filter(s -> !s.isEmpty()).toList()
+                        : value);
+            }
+
+            PostRequest request;
+            try {
+                request = objectMapper.convertValue(values, PostRequest.class);
+            } catch (IllegalArgumentException e) {
+                importer.reject("Invalid post: " + e.getMessage());
+                continue;
+            }
+            if (!importer.accept(request)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Inserts the chunk's posts in one JDBC batch, then all of their skills in another.
+     * Index listeners are notified once the chunk commits.
+     */
+    private void insertChunk(List<PendingRow> rows) {
+        // Stamped when written rather than when read, so created_at is close to the commit
+        // time the admin metrics rollup relies on; truncated to the database's precision so
+        // indexed timestamps match stored ones
+        LocalDateTime now = LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+        List<Long> ids = allocateIds(rows.size());
+        List<Object[]> skills = new ArrayList<>();
+        for (int i = 0; i < rows.size(); i++) {
+            Post post = rows.get(i).post();
+            post.setId(ids.get(i));
+            post.setCreatedAt(now);
+            post.setUpdatedAt(now);
+            post.getSkillsRequired().forEach(skill -> skills.add(new Object[]{post.getId(), skill}));
+        }
+
+        jdbcTemplate.batchUpdate(INSERT_POST, new BatchPreparedStatementSetter() {
+            @Override
+            public void setValues(PreparedStatement ps, int i) throws SQLException {
+                Post post = rows.get(i).post();
+                ps.setLong(1, post.getId());
+                ps.setString(2, post.getTitle());
+                ps.setString(3, post.getCompanyName());
+                ps.setString(4, post.getLocation());
+                ps.setString(5, post.getJobType());
+                ps.setString(6, post.getExperienceLevel());
+                ps.setString(7, post.getSalaryRange());
+                ps.setString(8, post.getDescription());
+                ps.setString(9, post.getQualifications());
+                ps.setDate(10, Date.valueOf(post.getApplicationDeadline()));
+                ps.setString(11, post.getPostedBy());
+                ps.setString(12, post.getContactEmail());
+                ps.setTimestamp(13, Timestamp.valueOf(post.getCreatedAt()));
+                ps.setTimestamp(14, Timestamp.valueOf(post.getUpdatedAt()));
+                ps.setString(15, Post.normalize(post.getLocation()));
+                ps.setString(16, Post.normalize(post.getJobType()));
+                ps.setString(17, Post.normalize(post.getExperienceLevel()));
+            }
+
+            @Override
+            public int getBatchSize() {
+                return rows.size();
+            }
+        });
+        jdbcTemplate.batchUpdate(INSERT_SKILL, skills);
+
+        rows.forEach(pending -> eventPublisher.publishEvent(PostChangedEvent.saved(pending.post())));
+    }
+
+    /**
+     * Reserves ids from the posts sequence the same way Hibernate's pooled-lo optimizer
+     * does: every nextval value v owns v .. v + ID_ALLOCATION_SIZE - 1.
+     */
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + Post.ID_ALLOCATION_SIZE - 1) / Post.ID_ALLOCATION_SIZE;
+        List<Long> ids = new ArrayList<>(count);
+        for (Long start : jdbcTemplate.queryForList(NEXT_ID_BLOCKS, Long.class, blocks)) {
+            for (int i = 0; i < Post.ID_ALLOCATION_SIZE && ids.size() < count; i++) {
+                ids.add(start + i);
+            }
+        }
+        return ids;
+    }
+
+    private static Post toPost(PostRequest request, String companyName, String postedBy) {
+        Post post = new Post();
+        post.setTitle(request.getTitle());
+        post.setCompanyName(companyName);
+        post.setLocation(request.getLocation());
+        post.setJobType(request.getJobType());
+        post.setExperienceLevel(request.getExperienceLevel());
+        post.setSalaryRange(request.getSalaryRange());
+        post.setDescription(request.getDescription());
+        post.setSkillsRequired(request.getSkillsRequired().stream().filter(Objects::nonNull).toList());
+        post.setQualifications(request.getQualifications());
+        post.setApplicationDeadline(request.getApplicationDeadline());
+        post.setPostedBy(postedBy);
+        post.setContactEmail(request.getContactEmail());
+        return post;
+    }
+}
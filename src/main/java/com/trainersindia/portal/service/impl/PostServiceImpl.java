@@ -1,27 +1,67 @@
 package com.trainersindia.portal.service.impl;
 
+import com.trainersindia.portal.dto.CompanyPostSummary;
+import com.trainersindia.portal.dto.CursorPage;
+import com.trainersindia.portal.dto.JobFacetsResponse;
 import com.trainersindia.portal.dto.PostRequest;
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.dto.SuggestionResponse;
+import com.trainersindia.portal.entity.ApplicationStatus;
 import com.trainersindia.portal.entity.Post;
 import com.trainersindia.portal.entity.User;
 import com.trainersindia.portal.exception.UserException;
 import com.trainersindia.portal.repository.PostRepository;
+import com.trainersindia.portal.repository.PostSpecifications;
 import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.search.JobSearchCache;
+import com.trainersindia.portal.search.KeywordIndex;
+import com.trainersindia.portal.search.PostChangedEvent;
+import com.trainersindia.portal.search.PostDocument;
+import com.trainersindia.portal.search.PostFilterIndex;
+import com.trainersindia.portal.search.SuggestionIndex;
+import com.trainersindia.portal.search.TrigramIndex;
+import com.trainersindia.portal.service.ApplicationCountService;
 import com.trainersindia.portal.service.PostService;
+import com.trainersindia.portal.util.EntityVersion;
+import com.trainersindia.portal.util.KeysetCursor;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class PostServiceImpl implements PostService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int FUZZY_RESULT_LIMIT = 50;
+    private static final Sort NEWEST_FIRST = Sort.by(Sort.Direction.DESC, "createdAt");
+    // Client-supplied sorts are limited to the summary columns
+    private static final List<String> SORTABLE_PROPERTIES = List.of(
+        "createdAt", "title", "companyName", "location", "jobType", "experienceLevel", "applicationDeadline");
+
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final KeywordIndex keywordIndex;
+    private final PostFilterIndex postFilterIndex;
+    private final TrigramIndex trigramIndex;
+    private final SuggestionIndex suggestionIndex;
+    private final JobSearchCache jobSearchCache;
+    private final ApplicationCountService applicationCountService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -33,7 +73,9 @@ public class PostServiceImpl implements PostService {
         mapPostRequestToPost(postRequest, post);
         post.setPostedBy(postedBy);
         post.setCompanyName(company.getFullName());
-        return postRepository.save(post);
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.saved(saved));
+        return saved;
     }
 
     @Override
@@ -46,8 +88,13 @@ public class PostServiceImpl implements PostService {
             throw new UserException("You are not authorized to update this post", HttpStatus.FORBIDDEN);
         }
 
+        PostDocument previous = PostDocument.from(post);
         mapPostRequestToPost(postRequest, post);
-        return postRepository.save(post);
+        // A skills-only change does not dirty the post row, so bump the ETag source explicitly
+        post.setUpdatedAt(LocalDateTime.now());
+        Post saved = postRepository.save(post);
+        eventPublisher.publishEvent(PostChangedEvent.updated(previous, saved));
+        return saved;
     }
 
     @Override
@@ -60,7 +107,9 @@ public class PostServiceImpl implements PostService {
             throw new UserException("You are not authorized to delete this post", HttpStatus.FORBIDDEN);
         }
 
+        PostDocument previous = PostDocument.from(post);
         postRepository.delete(post);
+        eventPublisher.publishEvent(PostChangedEvent.deleted(previous));
     }
 
     @Override
@@ -70,54 +119,144 @@ public class PostServiceImpl implements PostService {
     }
 
     @Override
-    public List<Post> getAllPosts() {
-        return postRepository.findAll();
+    public EntityVersion getPostVersion(Long id) {
+        return postRepository.findVersionById(id)
+                .orElseThrow(() -> new UserException("Post not found", HttpStatus.NOT_FOUND));
     }
 
     @Override
-    public List<Post> getPostsByCompany(String postedBy) {
-        return postRepository.findByPostedBy(postedBy);
+    @Transactional(readOnly = true)
+    public CursorPage<CompanyPostSummary> getPostsByCompany(String postedBy, String cursor, int size) {
+        CursorPage<PostSummary> page = scroll(PostSpecifications.postedBy(postedBy), cursor, size);
+        Map<Long, Map<ApplicationStatus, Long>> counts = applicationCountService.getCounts(ids(page.getItems()));
+        List<CompanyPostSummary> items = page.getItems().stream()
+                .map(post -> CompanyPostSummary.of(post, counts.getOrDefault(post.id(), Map.of())))
+                .toList();
+        return new CursorPage<>(items, page.getNextCursor(), page.isHasMore());
     }
 
     @Override
-    public List<Post> searchJobs(String location, String jobType, String experienceLevel, List<String> skills) {
-        List<Post> posts = postRepository.findAll();
-        
-        return posts.stream()
-            .filter(post -> location == null || post.getLocation().equalsIgnoreCase(location))
-            .filter(post -> jobType == null || post.getJobType().equalsIgnoreCase(jobType))
-            .filter(post -> experienceLevel == null || post.getExperienceLevel().equalsIgnoreCase(experienceLevel))
-            .filter(post -> skills == null || skills.isEmpty() || post.getSkillsRequired().containsAll(skills))
-            .collect(Collectors.toList());
+    @Transactional(readOnly = true)
+    public Page<PostSummary> searchJobs(String location, String jobType, String experienceLevel, List<String> skills,
+                                        Pageable pageable) {
+        checkSortable(pageable.getSort());
+        JobSearchCache.Query query = JobSearchCache.Query.filters(location, jobType, experienceLevel, skills,
+            pageable.getOffset(), pageable.getPageSize(), pageable.getSort().toString());
+        return jobSearchCache.get(query, () -> {
+            Page<PostSummary> page = loadJobs(location, jobType, experienceLevel, skills, pageable);
+            return new JobSearchCache.Result<>(page, ids(page.getContent()), false);
+        });
+    }
+
+    private Page<PostSummary> loadJobs(String location, String jobType, String experienceLevel, List<String> skills,
+                                       Pageable pageable) {
+        // The bitmap index answers the default newest-first ordering; other sorts go to the database
+        if (pageable.getSort().equals(NEWEST_FIRST)) {
+            PostFilterIndex.SearchResult result = postFilterIndex.search(
+                location, jobType, experienceLevel, skills, pageable.getOffset(), pageable.getPageSize());
+            return new PageImpl<>(postRepository.findSummariesByIdIn(result.ids()), pageable, result.total());
+        }
+        Specification<Post> spec = PostSpecifications.matching(location, jobType, experienceLevel, skills);
+        List<PostSummary> content = postRepository.findSummaries(
+            spec, pageable.getSort(), pageable.getOffset(), pageable.getPageSize());
+        return PageableExecutionUtils.getPage(content, pageable, () -> postRepository.count(spec));
     }
 
     @Override
-    public List<Post> getRecentJobs() {
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> scrollJobs(String location, String jobType, String experienceLevel,
+                                              List<String> skills, String cursor, int size) {
+        return scroll(PostSpecifications.matching(location, jobType, experienceLevel, skills), cursor, size);
+    }
+
+    @Override
+    @Transactional(readOnly = true)
+    public CursorPage<PostSummary> getRecentJobs(String cursor, int size) {
         LocalDateTime thirtyDaysAgo = LocalDateTime.now().minusDays(30);
-        return postRepository.findAll().stream()
-            .filter(post -> post.getCreatedAt().isAfter(thirtyDaysAgo))
-            .sorted((p1, p2) -> p2.getCreatedAt().compareTo(p1.getCreatedAt()))
-            .collect(Collectors.toList());
+        return scroll(PostSpecifications.createdAfter(thirtyDaysAgo), cursor, size);
     }
 
     @Override
-    public List<Post> searchJobsByKeyword(String keyword) {
-        if (keyword == null || keyword.trim().isEmpty()) {
-            return getAllPosts();
-        }
+    @Transactional(readOnly = true)
+    public Page<PostSummary> searchJobsByKeyword(String keyword, Pageable pageable) {
+        Pageable page = PageRequest.of(pageable.getPageNumber(), Math.min(Math.max(pageable.getPageSize(), 1),
+            MAX_PAGE_SIZE));
+        JobSearchCache.Query query = JobSearchCache.Query.keyword(keyword, page.getOffset(), page.getPageSize());
+        return jobSearchCache.get(query, () -> {
+            if (keyword == null || keyword.trim().isEmpty()) {
+                List<PostSummary> posts = postRepository.findSummaries(
+                    null, NEWEST_FIRST, page.getOffset(), page.getPageSize());
+                Page<PostSummary> result = PageableExecutionUtils.getPage(posts, page, postRepository::count);
+                return new JobSearchCache.Result<>(result, ids(posts), false);
+            }
+
+            List<Long> ids = keywordIndex.search(keyword);
+            if (!ids.isEmpty()) {
+                Page<PostSummary> result = loadSlice(ids, page);
+                return new JobSearchCache.Result<>(result, ids(result.getContent()), false);
+            }
+            // No exact term match, most likely a typo: fall back to similarity-ranked results
+            Page<PostSummary> result = loadSlice(trigramIndex.search(keyword, FUZZY_RESULT_LIMIT), page);
+            return new JobSearchCache.Result<>(result, ids(result.getContent()), true);
+        });
+    }
+
+    /**
+     * Loads only the requested page of the ranked ids, so a common term never binds
+     * more ids than one page holds.
+     */
+    private Page<PostSummary> loadSlice(List<Long> ids, Pageable page) {
+        int from = (int) Math.min(page.getOffset(), ids.size());
+        int to = Math.min(from + page.getPageSize(), ids.size());
+        return new PageImpl<>(postRepository.findSummariesByIdIn(ids.subList(from, to)), page, ids.size());
+    }
 
-        String lowercaseKeyword = keyword.toLowerCase();
-        return postRepository.findAll().stream()
-            .filter(post -> 
-                post.getTitle().toLowerCase().contains(lowercaseKeyword) ||
-                post.getDescription().toLowerCase().contains(lowercaseKeyword) ||
-                post.getCompanyName().toLowerCase().contains(lowercaseKeyword) ||
-                post.getSkillsRequired().stream()
-                    .anyMatch(skill -> skill.toLowerCase().contains(lowercaseKeyword))
-            )
+    @Override
+    public JobFacetsResponse getJobFacets(String location, String jobType, String experienceLevel,
+                                          List<String> skills, int topSkills) {
+        int limit = Math.min(Math.max(topSkills, 1), MAX_PAGE_SIZE);
+        return JobFacetsResponse.fromFacets(
+            postFilterIndex.facets(location, jobType, experienceLevel, skills, limit));
+    }
+
+    @Override
+    public List<SuggestionResponse> suggest(String prefix, SuggestionIndex.Type type, int limit) {
+        return suggestionIndex.suggest(prefix, type, Math.min(Math.max(limit, 1), MAX_PAGE_SIZE)).stream()
+            .map(SuggestionResponse::fromSuggestion)
             .collect(Collectors.toList());
     }
 
+    private static void checkSortable(Sort sort) {
+        for (Sort.Order order : sort) {
+            if (!SORTABLE_PROPERTIES.contains(order.getProperty())) {
+                throw new UserException("Cannot sort by '" + order.getProperty() + "'; sortable properties are "
+                    + String.join(", ", SORTABLE_PROPERTIES), HttpStatus.BAD_REQUEST);
+            }
+        }
+    }
+
+    private static List<Long> ids(List<PostSummary> posts) {
+        return posts.stream().map(PostSummary::id).collect(Collectors.toList());
+    }
+
+    /**
+     * Seek pagination on (createdAt, id): every page is a bounded index range scan no
+     * matter how deep it is. One extra row is fetched to tell whether more pages exist.
+     */
+    private CursorPage<PostSummary> scroll(Specification<Post> filter, String cursor, int size) {
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        Specification<Post> spec = filter.and(PostSpecifications.after(KeysetCursor.decode(cursor)));
+
+        List<PostSummary> rows = postRepository.findSummaries(spec, PostSpecifications.KEYSET_SORT, 0, limit + 1);
+
+        if (rows.size() <= limit) {
+            return new CursorPage<>(rows, null, false);
+        }
+        List<PostSummary> items = rows.subList(0, limit);
+        PostSummary last = items.get(limit - 1);
+        return new CursorPage<>(items, new KeysetCursor(last.createdAt(), last.id()).encode(), true);
+    }
+
     private void mapPostRequestToPost(PostRequest postRequest, Post post) {
         post.setTitle(postRequest.getTitle());
         post.setLocation(postRequest.getLocation());
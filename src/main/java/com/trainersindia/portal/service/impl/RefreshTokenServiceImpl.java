@@ -72,7 +72,7 @@ public class RefreshTokenServiceImpl implements RefreshTokenService {
 
         // Generate new access token
         String accessToken = tokenProvider.generateToken(user);
-        long expiresIn = tokenProvider.getExpirationFromToken(accessToken).getTime() - System.currentTimeMillis();
+        long expiresIn = tokenProvider.getExpirationInMs();
 
         return TokenResponse.builder()
                 .accessToken(accessToken)
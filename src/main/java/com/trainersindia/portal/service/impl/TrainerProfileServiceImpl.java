@@ -7,15 +7,20 @@ import com.trainersindia.portal.entity.User;
 import com.trainersindia.portal.exception.UserException;
 import com.trainersindia.portal.repository.TrainerProfileRepository;
 import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.search.TrainerProfileChangedEvent;
 import com.trainersindia.portal.service.FileStorageService;
 import com.trainersindia.portal.service.TrainerProfileService;
+import com.trainersindia.portal.util.EntityVersion;
 import com.trainersindia.portal.util.FileValidator;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import java.time.LocalDateTime;
+
 @Service
 @RequiredArgsConstructor
 public class TrainerProfileServiceImpl implements TrainerProfileService {
@@ -23,6 +28,7 @@ public class TrainerProfileServiceImpl implements TrainerProfileService {
     private final TrainerProfileRepository profileRepository;
     private final UserRepository userRepository;
     private final FileStorageService fileStorageService;
+    private final ApplicationEventPublisher eventPublisher;
 
     @Override
     @Transactional
@@ -51,7 +57,9 @@ public class TrainerProfileServiceImpl implements TrainerProfileService {
         profile.setExpectedSalary(request.getExpectedSalary());
         profile.setLinkedinUrl(request.getLinkedin());
         
-        return TrainerProfileResponse.fromEntity(profileRepository.save(profile));
+        TrainerProfile saved = profileRepository.save(profile);
+        eventPublisher.publishEvent(TrainerProfileChangedEvent.saved(saved));
+        return TrainerProfileResponse.fromEntity(saved);
     }
 
     @Override
@@ -69,7 +77,11 @@ public class TrainerProfileServiceImpl implements TrainerProfileService {
         profile.setAvailability(request.getAvailability());
         profile.setExpectedSalary(request.getExpectedSalary());
         profile.setLinkedinUrl(request.getLinkedin());
-        return TrainerProfileResponse.fromEntity(profileRepository.save(profile));
+        // Skill and certification changes alone do not dirty the profile row; keep the ETag source current
+        profile.setUpdatedAt(LocalDateTime.now());
+        TrainerProfile saved = profileRepository.save(profile);
+        eventPublisher.publishEvent(TrainerProfileChangedEvent.saved(saved));
+        return TrainerProfileResponse.fromEntity(saved);
     }
 
     @Override
@@ -77,6 +89,12 @@ public class TrainerProfileServiceImpl implements TrainerProfileService {
         return TrainerProfileResponse.fromEntity(getProfileByUsername(username));
     }
 
+    @Override
+    public EntityVersion getProfileVersion(String username) {
+        return profileRepository.findVersionByUsername(username)
+                .orElseThrow(() -> new UserException("Profile not found", HttpStatus.NOT_FOUND));
+    }
+
     @Override
     @Transactional
     public TrainerProfileResponse uploadProfilePicture(MultipartFile file, String username) {
@@ -0,0 +1,50 @@
+package com.trainersindia.portal.util;
+
+import org.springframework.http.ResponseEntity;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * Identity and last modification time of a row, enough to build a strong ETag
+ * without loading the entity itself.
+ */
+public record EntityVersion(Long id, LocalDateTime updatedAt) {
+
+    /**
+     * A loaded entity or response that carries the columns its ETag is built from.
+     */
+    public interface Versioned {
+        Long getId();
+
+        LocalDateTime getUpdatedAt();
+
+        LocalDateTime getCreatedAt();
+    }
+
+    /**
+     * Falls back to the creation time for rows written before updatedAt was tracked,
+     * matching the COALESCE used by the repository version lookups.
+     */
+    public static EntityVersion of(Long id, LocalDateTime updatedAt, LocalDateTime createdAt) {
+        return new EntityVersion(id, updatedAt != null ? updatedAt : createdAt);
+    }
+
+    public static EntityVersion of(Versioned versioned) {
+        return of(versioned.getId(), versioned.getUpdatedAt(), versioned.getCreatedAt());
+    }
+
+    /**
+     * A 200 response for {@code body} with the ETag a version lookup of the same row yields.
+     */
+    public static <T extends Versioned> ResponseEntity<T> ok(T body) {
+        return ResponseEntity.ok().eTag(of(body).etag()).body(body);
+    }
+
+    public String etag() {
+        String stamp = updatedAt == null
+                ? "0"
+                : Long.toHexString(updatedAt.toEpochSecond(ZoneOffset.UTC)) + "." + Integer.toHexString(updatedAt.getNano());
+        return "\"" + id + "-" + stamp + "\"";
+    }
+}
@@ -0,0 +1,114 @@
+package com.trainersindia.portal.util;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.trainersindia.portal.dto.ExportFormat;
+
+import java.io.BufferedWriter;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.RecordComponent;
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.stream.Collectors;
+
+/**
+ * Writes records one at a time as NDJSON or CSV through a fixed-size buffer, so memory
+ * use does not depend on the number of rows. CSV columns are the record components in
+ * declaration order.
+ */
+public final class ExportWriter<T extends Record> implements Closeable {
+
+    private static final int BUFFER_SIZE = 16 * 1024;
+
+    private final ExportFormat format;
+    private final RecordComponent[] columns;
+    private final Writer writer;
+    private final JsonGenerator generator;
+    private final ObjectWriter jsonWriter;
+
+    public ExportWriter(ExportFormat format, Class<T> type, OutputStream out, ObjectMapper objectMapper)
+            throws IOException {
+        this.format = format;
+        this.columns = type.getRecordComponents();
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+        if (format == ExportFormat.NDJSON) {
+            this.jsonWriter = objectMapper.writer().without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+            this.generator = objectMapper.getFactory().createGenerator(writer)
+                    .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                    .setRootValueSeparator(null);
+        } else {
+            this.jsonWriter = null;
+            this.generator = null;
+            writeCsvHeader();
+        }
+    }
+
+    public void write(T row) throws IOException {
+        if (format == ExportFormat.NDJSON) {
+            jsonWriter.writeValue(generator, row);
+            generator.writeRaw('\n');
+            return;
+        }
+
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(csvField(valueOf(row, columns[i])));
+        }
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (generator != null) {
+            generator.close();
+        }
+        writer.flush();
+    }
+
+    private void writeCsvHeader() throws IOException {
+        for (int i = 0; i < columns.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writer.write(columns[i].getName());
+        }
+        writer.write("\r\n");
+    }
+
+    private static Object valueOf(Record row, RecordComponent column) {
+        try {
+            return column.getAccessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Cannot read " + column.getName(), e);
+        }
+    }
+
+    private static String csvField(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value instanceof Collection<?> values
+                ? values.stream().map(String::valueOf).collect(Collectors.joining(";"))
+                : value.toString();
+        if (text.isEmpty()) {
+            return text;
+        }
+        // Neutralize spreadsheet formulas in user-supplied text, including ones behind a tab or CR
+        if ("=+-@\t\r".indexOf(text.charAt(0)) >= 0 && !(value instanceof Number)) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return "\"" + text.replace("\"", "\"\"") + "\"";
+        }
+        return text;
+    }
+}
@@ -0,0 +1,22 @@
+-- Job search filters on lower-cased copies of location, job type and experience level.
+-- Hibernate (ddl-auto=update) adds the columns and their indexes but does not backfill
+-- existing rows or create expression indexes, so apply this once per environment.
+
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS location_normalized VARCHAR(255);
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS job_type_normalized VARCHAR(255);
+ALTER TABLE posts ADD COLUMN IF NOT EXISTS experience_level_normalized VARCHAR(255);
+
+UPDATE posts
+SET location_normalized         = LOWER(TRIM(location)),
+    job_type_normalized         = LOWER(TRIM(job_type)),
+    experience_level_normalized = LOWER(TRIM(experience_level))
+WHERE location_normalized IS NULL
+   OR job_type_normalized IS NULL
+   OR experience_level_normalized IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_posts_location_normalized ON posts (location_normalized);
+CREATE INDEX IF NOT EXISTS idx_posts_job_type_normalized ON posts (job_type_normalized);
+CREATE INDEX IF NOT EXISTS idx_posts_experience_level_normalized ON posts (experience_level_normalized);
+
+-- Skill filter: WHERE LOWER(skill) IN (...) GROUP BY post_id HAVING COUNT(DISTINCT LOWER(skill)) = n
+CREATE INDEX IF NOT EXISTS idx_post_skills_lower_skill ON post_skills (LOWER(skill), post_id);
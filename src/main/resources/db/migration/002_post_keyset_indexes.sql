@@ -0,0 +1,4 @@
+-- Keyset pagination on (created_at, id) for job listings and company post listings.
+
+CREATE INDEX IF NOT EXISTS idx_posts_created_at_id ON posts (created_at DESC, id DESC);
+CREATE INDEX IF NOT EXISTS idx_posts_posted_by_created_at_id ON posts (posted_by, created_at DESC, id DESC);
@@ -0,0 +1,4 @@
+-- Paged application listings per trainer and per post, newest first.
+
+CREATE INDEX IF NOT EXISTS idx_job_applications_trainer_created_at ON job_applications (trainer_id, created_at DESC);
+CREATE INDEX IF NOT EXISTS idx_job_applications_post_created_at ON job_applications (post_id, created_at DESC);
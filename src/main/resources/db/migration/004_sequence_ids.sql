@@ -0,0 +1,31 @@
+-- Move primary keys from IDENTITY columns to sequences with an increment of 50, matching
+-- allocationSize = 50 on the entities. Hibernate's pooled-lo optimizer hands out
+-- nextval .. nextval + 49 from each call, which lets it batch inserts.
+-- Each sequence starts above the current maximum id, so existing rows never collide.
+
+CREATE SEQUENCE IF NOT EXISTS base_entity_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS posts_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS job_applications_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS trainer_profiles_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS refresh_tokens_seq INCREMENT BY 50;
+CREATE SEQUENCE IF NOT EXISTS email_verification_token_seq INCREMENT BY 50;
+
+SELECT setval('base_entity_seq', GREATEST(
+        (SELECT COALESCE(MAX(id), 0) FROM users),
+        (SELECT COALESCE(MAX(id), 0) FROM file_info)) + 1, false);
+SELECT setval('posts_seq', (SELECT COALESCE(MAX(id), 0) FROM posts) + 1, false);
+SELECT setval('job_applications_seq', (SELECT COALESCE(MAX(id), 0) FROM job_applications) + 1, false);
+SELECT setval('trainer_profiles_seq', (SELECT COALESCE(MAX(id), 0) FROM trainer_profiles) + 1, false);
+SELECT setval('refresh_tokens_seq', (SELECT COALESCE(MAX(id), 0) FROM refresh_tokens) + 1, false);
+SELECT setval('email_verification_token_seq',
+        (SELECT COALESCE(MAX(id), 0) FROM email_verification_token) + 1, false);
+
+-- Ids now always come from the sequences above; a leftover identity default would hand
+-- out values from a second, unrelated counter.
+ALTER TABLE users ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE file_info ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE posts ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE job_applications ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE trainer_profiles ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE refresh_tokens ALTER COLUMN id DROP IDENTITY IF EXISTS;
+ALTER TABLE email_verification_token ALTER COLUMN id DROP IDENTITY IF EXISTS;
@@ -0,0 +1,13 @@
+-- Application counts per post and status, maintained by the application service and
+-- reconciled nightly. Backfilled here from existing applications.
+
+CREATE TABLE IF NOT EXISTS post_application_counts (
+    post_id BIGINT NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    application_count BIGINT NOT NULL,
+    PRIMARY KEY (post_id, status)
+);
+
+INSERT INTO post_application_counts (post_id, status, application_count)
+SELECT post_id, status, COUNT(*) FROM job_applications GROUP BY post_id, status
+ON CONFLICT (post_id, status) DO UPDATE SET application_count = EXCLUDED.application_count;
@@ -0,0 +1,15 @@
+-- Applications received per company per day, for the company dashboard. Backfilled
+-- here from existing applications.
+
+CREATE TABLE IF NOT EXISTS company_application_days (
+    posted_by VARCHAR(255) NOT NULL,
+    day DATE NOT NULL,
+    application_count BIGINT NOT NULL,
+    PRIMARY KEY (posted_by, day)
+);
+
+INSERT INTO company_application_days (posted_by, day, application_count)
+SELECT p.posted_by, CAST(a.created_at AS DATE), COUNT(*)
+FROM job_applications a JOIN posts p ON p.id = a.post_id
+GROUP BY p.posted_by, CAST(a.created_at AS DATE)
+ON CONFLICT (posted_by, day) DO UPDATE SET application_count = EXCLUDED.application_count;
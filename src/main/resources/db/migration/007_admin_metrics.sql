@@ -0,0 +1,34 @@
+-- Rollup tables for the admin metrics dashboard, filled incrementally by the scheduled
+-- rollup from its watermarks; the first run counts existing rows.
+
+CREATE TABLE IF NOT EXISTS metric_hourly_buckets (
+    metric VARCHAR(50) NOT NULL,
+    bucket_start TIMESTAMP NOT NULL,
+    dimension VARCHAR(50) NOT NULL,
+    amount BIGINT NOT NULL,
+    PRIMARY KEY (metric, bucket_start, dimension)
+);
+
+CREATE TABLE IF NOT EXISTS metric_totals (
+    metric VARCHAR(50) NOT NULL,
+    dimension VARCHAR(50) NOT NULL,
+    amount BIGINT NOT NULL,
+    PRIMARY KEY (metric, dimension)
+);
+
+CREATE TABLE IF NOT EXISTS metric_watermarks (
+    source VARCHAR(50) PRIMARY KEY,
+    last_seen_at TIMESTAMP NOT NULL,
+    last_id BIGINT NOT NULL
+);
+
+CREATE TABLE IF NOT EXISTS metric_user_states (
+    user_id BIGINT PRIMARY KEY,
+    roles VARCHAR(255) NOT NULL,
+    verified BOOLEAN NOT NULL
+);
+
+-- Let the rollup seek straight to its watermark in each source table
+CREATE INDEX IF NOT EXISTS idx_users_updated_at_id ON users (updated_at, id);
+CREATE INDEX IF NOT EXISTS idx_file_info_created_at_id ON file_info (created_at, id);
+CREATE INDEX IF NOT EXISTS idx_job_applications_created_at_id ON job_applications (created_at, id);
@@ -0,0 +1,3 @@
+-- Version embedded in access tokens; incremented to invalidate a user's existing tokens.
+
+ALTER TABLE users ADD COLUMN IF NOT EXISTS token_version INTEGER NOT NULL DEFAULT 0;
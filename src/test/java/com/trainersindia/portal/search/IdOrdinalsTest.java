@@ -0,0 +1,49 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class IdOrdinalsTest {
+
+    private final IdOrdinals ordinals = new IdOrdinals();
+
+    @Test
+    void assignsDenseOrdinalsToLargeIds() {
+        int first = ordinals.acquire(Long.MAX_VALUE);
+        int second = ordinals.acquire(5_000_000_000L);
+
+        assertThat(first).isZero();
+        assertThat(second).isEqualTo(1);
+        assertThat(ordinals.id(first)).isEqualTo(Long.MAX_VALUE);
+        assertThat(ordinals.acquire(Long.MAX_VALUE)).isEqualTo(first);
+    }
+
+    @Test
+    void reusesReleasedOrdinals() {
+        ordinals.acquire(10L);
+        int released = ordinals.acquire(20L);
+        ordinals.release(20L);
+
+        assertThat(ordinals.find(20L)).isEqualTo(-1);
+        assertThat(ordinals.acquire(30L)).isEqualTo(released);
+        assertThat(ordinals.id(released)).isEqualTo(30L);
+    }
+
+    @Test
+    void growsPastTheInitialCapacity() {
+        for (long id = 0; id < 1000; id++) {
+            assertThat(ordinals.acquire(id * 1_000_000_000L)).isEqualTo((int) id);
+        }
+        assertThat(ordinals.id(999)).isEqualTo(999_000_000_000L);
+    }
+
+    @Test
+    void clearStartsOver() {
+        ordinals.acquire(7L);
+        ordinals.clear();
+
+        assertThat(ordinals.find(7L)).isEqualTo(-1);
+        assertThat(ordinals.acquire(8L)).isZero();
+    }
+}
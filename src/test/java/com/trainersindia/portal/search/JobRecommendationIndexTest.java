@@ -0,0 +1,82 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobRecommendationIndexTest {
+
+    private static final LocalDate TODAY = LocalDate.of(2024, 6, 1);
+
+    private JobRecommendationIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new JobRecommendationIndex();
+        index.index(post(1L, "Bangalore", List.of("Java", "Spring"), TODAY.plusDays(10)));
+        index.index(post(2L, "Pune", List.of("java", "Kafka"), TODAY));
+        index.index(post(3L, "Bangalore", List.of("Python"), TODAY.plusDays(10)));
+        index.index(post(4L, "Bangalore", List.of("Java", "Spring"), TODAY.minusDays(1)));
+    }
+
+    @Test
+    void ranksOpenPostsSharingSkillsBestFirst() {
+        List<JobRecommendationIndex.Recommendation> recommendations =
+                index.recommend(trainer("Bangalore", "Java", "Spring"), 10, TODAY);
+
+        assertThat(recommendations).extracting(JobRecommendationIndex.Recommendation::postId).containsExactly(1L, 2L);
+        assertThat(recommendations.get(0).matchedSkills()).containsExactly("Java", "Spring");
+        assertThat(recommendations.get(1).matchedSkills()).containsExactly("java");
+        assertThat(recommendations.get(0).score()).isGreaterThan(recommendations.get(1).score());
+    }
+
+    @Test
+    void keepsOnlyTheBestLimit() {
+        assertThat(index.recommend(trainer("Pune", "Java", "Spring"), 1, TODAY))
+                .extracting(JobRecommendationIndex.Recommendation::postId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void locationMatchBoostsTheScore() {
+        double elsewhere = index.recommend(trainer("Delhi", "Python"), 1, TODAY).get(0).score();
+        double sameCity = index.recommend(trainer("Bangalore", "Python"), 1, TODAY).get(0).score();
+
+        assertThat(sameCity).isGreaterThan(elsewhere);
+    }
+
+    @Test
+    void noSkillsOrNoOverlapRecommendsNothing() {
+        assertThat(index.recommend(trainer("Bangalore"), 10, TODAY)).isEmpty();
+        assertThat(index.recommend(trainer("Bangalore", "Haskell"), 10, TODAY)).isEmpty();
+    }
+
+    @Test
+    void removedPostsAreNotRecommended() {
+        index.remove(1L);
+
+        assertThat(index.recommend(trainer("Bangalore", "Spring"), 10, TODAY)).isEmpty();
+    }
+
+    @Test
+    void recommendsPostsWithIdsBeyondIntRange() {
+        long large = Integer.MAX_VALUE + 1L;
+        index.index(post(large, "Chennai", List.of("Rust"), TODAY));
+
+        assertThat(index.recommend(trainer("Chennai", "Rust"), 10, TODAY))
+                .extracting(JobRecommendationIndex.Recommendation::postId)
+                .containsExactly(large);
+    }
+
+    private static PostDocument post(Long id, String location, List<String> skills, LocalDate deadline) {
+        return new PostDocument(id, "Title", null, "Company", location, null, null, skills, deadline, "company", null);
+    }
+
+    private static TrainerDocument trainer(String location, String... skills) {
+        return new TrainerDocument(1L, "trainer", location, null, List.of(skills), List.of());
+    }
+}
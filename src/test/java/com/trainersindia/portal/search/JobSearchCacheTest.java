@@ -0,0 +1,140 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class JobSearchCacheTest {
+
+    private JobSearchCache cache;
+    private AtomicInteger loads;
+
+    @BeforeEach
+    void setUp() {
+        cache = new JobSearchCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 2);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(5));
+        loads = new AtomicInteger();
+    }
+
+    @Test
+    void servesRepeatedQueriesFromCache() {
+        JobSearchCache.Query query = JobSearchCache.Query.filters(" Pune ", null, "", List.of("Java"), 0, 10, "newest");
+
+        assertThat(load(query, List.of(1L))).isEqualTo(1);
+        assertThat(load(JobSearchCache.Query.filters("pune", null, null, List.of("java"), 0, 10, "newest"),
+                List.of(1L))).isEqualTo(1);
+
+        JobSearchCache.Stats stats = cache.stats();
+        assertThat(stats.hits()).isEqualTo(1);
+        assertThat(stats.misses()).isEqualTo(1);
+    }
+
+    @Test
+    void evictsLeastRecentlyUsed() {
+        JobSearchCache.Query first = JobSearchCache.Query.keyword("java", 0, 20);
+        JobSearchCache.Query second = JobSearchCache.Query.keyword("python", 0, 20);
+        JobSearchCache.Query third = JobSearchCache.Query.keyword("rust", 0, 20);
+        load(first, List.of());
+        load(second, List.of());
+        load(first, List.of());
+        load(third, List.of());
+
+        assertThat(cache.stats().evictions()).isEqualTo(1);
+        assertThat(load(first, List.of())).isEqualTo(1);
+        assertThat(load(second, List.of())).isEqualTo(4);
+    }
+
+    @Test
+    void expiredEntriesAreReloaded() {
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ZERO);
+        JobSearchCache.Query query = JobSearchCache.Query.keyword("java", 0, 20);
+        load(query, List.of());
+
+        assertThat(load(query, List.of())).isEqualTo(2);
+        assertThat(cache.stats().expirations()).isEqualTo(1);
+    }
+
+    @Test
+    void changeToAShownPostInvalidates() {
+        JobSearchCache.Query query = JobSearchCache.Query.keyword("java", 0, 20);
+        load(query, List.of(1L));
+
+        cache.onPostChanged(PostChangedEvent.deleted(post(1L, "Java Developer", "Pune")));
+
+        assertThat(load(query, List.of())).isEqualTo(2);
+        assertThat(cache.stats().invalidations()).isEqualTo(1);
+    }
+
+    @Test
+    void newPostMatchingTheQueryInvalidates() {
+        JobSearchCache.Query keyword = JobSearchCache.Query.keyword("jav", 0, 20);
+        JobSearchCache.Query filters = JobSearchCache.Query.filters("pune", null, null, List.of(), 0, 10, "newest");
+        load(keyword, List.of());
+        load(filters, List.of());
+
+        cache.onPostChanged(new PostChangedEvent(5L, null, post(5L, "Java Developer", "Delhi")));
+
+        assertThat(load(keyword, List.of())).isEqualTo(3);
+        assertThat(load(filters, List.of())).isEqualTo(2);
+    }
+
+    @Test
+    void updateMovingAPostOutOfTheQueryInvalidates() {
+        JobSearchCache.Query filters = JobSearchCache.Query.filters("pune", null, null, List.of(), 0, 10, "newest");
+        load(filters, List.of());
+
+        cache.onPostChanged(new PostChangedEvent(5L, post(5L, "Tester", "Pune"), post(5L, "Tester", "Delhi")));
+
+        assertThat(load(filters, List.of())).isEqualTo(2);
+    }
+
+    @Test
+    void unrelatedChangeKeepsEntries() {
+        JobSearchCache.Query query = JobSearchCache.Query.keyword("java", 0, 20);
+        load(query, List.of(1L));
+
+        cache.onPostChanged(new PostChangedEvent(7L, null, post(7L, "Data Analyst", "Pune")));
+
+        assertThat(load(query, List.of(1L))).isEqualTo(1);
+        assertThat(cache.stats().invalidations()).isZero();
+    }
+
+    @Test
+    void volatileResultsAreDroppedOnAnyChange() {
+        JobSearchCache.Query query = JobSearchCache.Query.keyword("java", 0, 20);
+        cache.get(query, () -> new JobSearchCache.Result<>(loads.incrementAndGet(), List.of(), true));
+
+        cache.onPostChanged(new PostChangedEvent(7L, null, post(7L, "Data Analyst", "Pune")));
+
+        assertThat(load(query, List.of())).isEqualTo(2);
+    }
+
+    @Test
+    void resultLoadedAcrossAnInvalidationIsNotStored() {
+        JobSearchCache.Query query = JobSearchCache.Query.keyword("java", 0, 20);
+        cache.get(query, () -> {
+            cache.clear();
+            return new JobSearchCache.Result<>(loads.incrementAndGet(), List.of(), false);
+        });
+
+        assertThat(cache.stats().size()).isZero();
+        assertThat(load(query, List.of())).isEqualTo(2);
+    }
+
+    private int load(JobSearchCache.Query query, List<Long> postIds) {
+        return cache.get(query, () -> new JobSearchCache.Result<>(loads.incrementAndGet(), postIds, false));
+    }
+
+    private static PostDocument post(Long id, String title, String location) {
+        return new PostDocument(id, title, null, "Acme", location, null, null, List.of(), null, "company",
+                LocalDateTime.of(2024, 1, 1, 0, 0));
+    }
+}
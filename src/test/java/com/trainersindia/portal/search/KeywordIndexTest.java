@@ -0,0 +1,86 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class KeywordIndexTest {
+
+    private KeywordIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new KeywordIndex();
+        index.index(post(1L, "Java Developer", "Build services", "Acme", List.of("Spring Boot")));
+        index.index(post(2L, "JavaScript Engineer", "Frontend work", "Globex", List.of("React")));
+        index.index(post(3L, "Data Analyst", "Reporting with SQL", "Acme", List.of("Python")));
+    }
+
+    @Test
+    void matchesTermsAcrossFieldsNewestFirst() {
+        assertThat(index.search("acme")).containsExactly(3L, 1L);
+        assertThat(index.search("spring")).containsExactly(1L);
+        assertThat(index.search("REPORTING")).containsExactly(3L);
+    }
+
+    @Test
+    void requiresEveryTerm() {
+        assertThat(index.search("acme python")).containsExactly(3L);
+        assertThat(index.search("acme react")).isEmpty();
+    }
+
+    @Test
+    void prefixOfATermMatches() {
+        assertThat(index.search("java")).containsExactly(2L, 1L);
+        assertThat(index.search("jav")).containsExactly(2L, 1L);
+        assertThat(index.search("javas")).containsExactly(2L);
+    }
+
+    @Test
+    void blankKeywordMatchesNothing() {
+        assertThat(index.search("  ")).isEmpty();
+        assertThat(index.search(null)).isEmpty();
+    }
+
+    @Test
+    void reindexingReplacesOldTerms() {
+        index.index(post(1L, "Kotlin Developer", "Build services", "Acme", List.of()));
+
+        assertThat(index.search("spring")).isEmpty();
+        assertThat(index.search("kotlin")).containsExactly(1L);
+    }
+
+    @Test
+    void removeDropsThePost() {
+        index.remove(2L);
+
+        assertThat(index.search("java")).containsExactly(1L);
+        assertThat(index.search("react")).isEmpty();
+    }
+
+    @Test
+    void clearEmptiesTheIndex() {
+        index.clear();
+
+        assertThat(index.search("acme")).isEmpty();
+    }
+
+    @Test
+    void matchesAppliesTheSamePrefixRule() {
+        Set<String> terms = KeywordIndex.terms(post(9L, "JavaScript Engineer", null, "Globex", List.of("Node.js")));
+
+        assertThat(KeywordIndex.matches(terms, List.of("java", "glob"))).isTrue();
+        assertThat(KeywordIndex.matches(terms, List.of("java", "acme"))).isFalse();
+        assertThat(KeywordIndex.matches(terms, List.of())).isTrue();
+    }
+
+    static PostDocument post(Long id, String title, String description, String companyName, List<String> skills) {
+        return new PostDocument(id, title, description, companyName, null, null, null, skills, null, "company",
+                LocalDateTime.of(2024, 1, 1, 0, 0).plusDays(id));
+    }
+}
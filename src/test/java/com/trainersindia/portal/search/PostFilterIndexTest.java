@@ -0,0 +1,151 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class PostFilterIndexTest {
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 6, 1, 9, 0);
+
+    private PostFilterIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new PostFilterIndex();
+        index.index(post(1L, "Bangalore", "Full-time", "Senior", List.of("Java", "Spring"), NOW.minusDays(3)));
+        index.index(post(2L, "bangalore ", "Contract", "Junior", List.of("java"), NOW.minusDays(2)));
+        index.index(post(3L, "Pune", "Full-time", "Senior", List.of("Python"), NOW.minusDays(1)));
+    }
+
+    @Test
+    void combinesFiltersCaseInsensitively() {
+        assertThat(index.search("BANGALORE", null, null, null, 0, 10).ids()).containsExactly(2L, 1L);
+        assertThat(index.search("bangalore", "full-time", null, null, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search(null, null, "senior", List.of("JAVA", "spring"), 0, 10).ids()).containsExactly(1L);
+    }
+
+    @Test
+    void unknownValueMatchesNothing() {
+        PostFilterIndex.SearchResult result = index.search("Delhi", null, null, null, 0, 10);
+
+        assertThat(result.ids()).isEmpty();
+        assertThat(result.total()).isZero();
+    }
+
+    @Test
+    void pagesNewestFirstWithTotal() {
+        PostFilterIndex.SearchResult first = index.search(null, null, null, null, 0, 2);
+        PostFilterIndex.SearchResult second = index.search(null, null, null, null, 2, 2);
+
+        assertThat(first.ids()).containsExactly(3L, 2L);
+        assertThat(second.ids()).containsExactly(1L);
+        assertThat(first.total()).isEqualTo(3);
+        assertThat(index.search(null, null, null, null, 5, 2).ids()).isEmpty();
+    }
+
+    @Test
+    void ordersEqualTimestampsByDescendingId() {
+        index.index(post(4L, "Pune", null, null, List.of(), NOW.minusDays(1)));
+
+        assertThat(index.search("pune", null, null, null, 0, 10).ids()).containsExactly(4L, 3L);
+    }
+
+    @Test
+    void reindexAndRemoveUpdateEveryDimension() {
+        index.index(post(1L, "Pune", "Full-time", "Senior", List.of("Go"), NOW.minusDays(3)));
+        index.remove(3L);
+
+        assertThat(index.search("bangalore", null, null, null, 0, 10).ids()).containsExactly(2L);
+        assertThat(index.search("pune", null, null, null, 0, 10).ids()).containsExactly(1L);
+        assertThat(index.search(null, null, null, List.of("spring"), 0, 10).ids()).isEmpty();
+        assertThat(index.search(null, null, null, List.of("python"), 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void indexesIdsBeyondIntRange() {
+        long large = Integer.MAX_VALUE + 10L;
+        index.index(post(large, "Chennai", null, null, List.of("Rust"), NOW));
+
+        assertThat(index.search("chennai", null, null, null, 0, 10).ids()).containsExactly(large);
+        assertThat(index.search(null, null, null, null, 0, 1).ids()).containsExactly(large);
+
+        index.remove(large);
+        assertThat(index.search("chennai", null, null, null, 0, 10).ids()).isEmpty();
+    }
+
+    @Test
+    void facetsCountWithinTheFilter() {
+        PostFilterIndex.Facets facets = index.facets(null, "Full-time", null, null, 10);
+
+        assertThat(facets.total()).isEqualTo(2);
+        assertThat(facets.locations()).containsOnly(entry("Bangalore", 1L), entry("Pune", 1L));
+        assertThat(facets.skills()).containsOnly(entry("Java", 1L), entry("Spring", 1L), entry("Python", 1L));
+    }
+
+    @Test
+    void facetsKeepTheTopSkillsByCount() {
+        PostFilterIndex.Facets facets = index.facets(null, null, null, null, 1);
+
+        assertThat(facets.total()).isEqualTo(3);
+        assertThat(facets.skills()).containsExactly(entry("Java", 2L));
+    }
+
+    @Test
+    void ordersPostsIndexedOutOfOrder() {
+        index.index(post(4L, "Pune", null, null, List.of("Java"), NOW.minusDays(4)));
+        index.index(post(5L, "Pune", null, null, List.of("Java"), NOW.minusHours(36)));
+
+        assertThat(index.search(null, null, null, null, 0, 10).ids()).containsExactly(3L, 5L, 2L, 1L, 4L);
+        assertThat(index.search(null, null, null, List.of("java"), 1, 2).ids()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void renumbersWhenAGapFillsUp() {
+        // Each post lands just after post 1, halving the same gap until it runs out
+        for (long id = 100; id < 100 + PostFilterIndex.GAP; id++) {
+            index.index(post(id, "Delhi", null, null, List.of(), NOW.minusDays(3).plusSeconds(200 - id)));
+        }
+
+        assertThat(index.renumberings()).isPositive();
+        List<Long> ids = index.search(null, null, null, null, 0, 100).ids();
+        assertThat(ids).hasSize(3 + PostFilterIndex.GAP);
+        assertThat(ids.subList(0, 3)).containsExactly(3L, 2L, 100L);
+        assertThat(ids.get(ids.size() - 1)).isEqualTo(1L);
+        assertThat(index.search("delhi", null, null, null, 0, 1).ids()).containsExactly(100L);
+    }
+
+    @Test
+    void pagesDeepIntoABroadFilter() {
+        for (long id = 10; id < 1010; id++) {
+            index.index(post(id, "Delhi", null, null, List.of("Java"), NOW.plusMinutes(id)));
+        }
+
+        PostFilterIndex.SearchResult page = index.search(null, null, null, List.of("java"), 990, 5);
+
+        assertThat(page.total()).isEqualTo(1002);
+        assertThat(page.ids()).containsExactly(19L, 18L, 17L, 16L, 15L);
+        assertThat(index.search(null, null, null, List.of("java"), 1000, 5).ids()).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void reindexKeepsOrUpdatesThePosition() {
+        index.index(post(1L, "Delhi", null, null, List.of(), NOW.minusDays(3)));
+        assertThat(index.search(null, null, null, null, 0, 10).ids()).containsExactly(3L, 2L, 1L);
+
+        index.index(post(1L, "Delhi", null, null, List.of(), NOW));
+        assertThat(index.search(null, null, null, null, 0, 10).ids()).containsExactly(1L, 3L, 2L);
+        assertThat(index.search("delhi", null, null, null, 0, 10).ids()).containsExactly(1L);
+    }
+
+    private static PostDocument post(Long id, String location, String jobType, String experienceLevel,
+                                     List<String> skills, LocalDateTime createdAt) {
+        return new PostDocument(id, "Title " + id, null, "Company", location, jobType, experienceLevel, skills,
+                null, "company", createdAt);
+    }
+}
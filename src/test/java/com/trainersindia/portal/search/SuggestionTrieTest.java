@@ -0,0 +1,74 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SuggestionTrieTest {
+
+    private SuggestionTrie trie;
+
+    @BeforeEach
+    void setUp() {
+        trie = new SuggestionTrie();
+        trie.add("java", "Java", 5);
+        trie.add("javascript", "JavaScript", 8);
+        trie.add("jenkins", "Jenkins", 2);
+        trie.add("python", "Python", 3);
+    }
+
+    @Test
+    void completesHeaviestFirst() {
+        assertThat(trie.complete("j", 10)).containsExactly(
+                new SuggestionTrie.Completion("JavaScript", 8),
+                new SuggestionTrie.Completion("Java", 5),
+                new SuggestionTrie.Completion("Jenkins", 2));
+    }
+
+    @Test
+    void limitsAndNarrowsByPrefix() {
+        assertThat(trie.complete("j", 1)).extracting(SuggestionTrie.Completion::text).containsExactly("JavaScript");
+        assertThat(trie.complete("java", 10)).extracting(SuggestionTrie.Completion::text)
+                .containsExactly("JavaScript", "Java");
+        assertThat(trie.complete("x", 10)).isEmpty();
+        assertThat(trie.complete("j", 0)).isEmpty();
+    }
+
+    @Test
+    void emptyPrefixCompletesEverything() {
+        assertThat(trie.complete("", 10)).extracting(SuggestionTrie.Completion::text)
+                .containsExactly("JavaScript", "Java", "Python", "Jenkins");
+    }
+
+    @Test
+    void weightsAccumulateAndReorder() {
+        trie.add("java", "ignored label", 10);
+
+        assertThat(trie.complete("jav", 10)).containsExactly(
+                new SuggestionTrie.Completion("Java", 15),
+                new SuggestionTrie.Completion("JavaScript", 8));
+    }
+
+    @Test
+    void termsDroppingToZeroArePruned() {
+        trie.add("javascript", "JavaScript", -8);
+
+        assertThat(trie.complete("javas", 10)).isEmpty();
+        assertThat(trie.complete("jav", 10)).extracting(SuggestionTrie.Completion::text).containsExactly("Java");
+    }
+
+    @Test
+    void negativeDeltaForUnknownTermIsIgnored() {
+        trie.add("ruby", "Ruby", -1);
+
+        assertThat(trie.complete("r", 10)).isEmpty();
+    }
+
+    @Test
+    void clearRemovesEveryTerm() {
+        trie.clear();
+
+        assertThat(trie.complete("", 10)).isEmpty();
+    }
+}
@@ -0,0 +1,88 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrainerIndexTest {
+
+    private TrainerIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrainerIndex();
+        index.indexProfile(trainer(1L, "alice", "Bangalore", List.of("Java", "Spring"),
+                List.of("Oracle Certified Java Programmer")));
+        index.indexProfile(trainer(2L, "bob", "Pune", List.of("java"), List.of()));
+        index.indexProfile(trainer(3L, "carol", "Bangalore", List.of("Python"), List.of("AWS Solutions Architect")));
+    }
+
+    @Test
+    void ranksTrainersSharingThePostsSkills() {
+        List<TrainerIndex.Candidate> candidates = index.rankFor(post("Bangalore", "Java", "Spring"), 10);
+
+        assertThat(candidates).extracting(TrainerIndex.Candidate::trainerId).containsExactly(1L, 2L);
+        assertThat(candidates.get(0).matchedSkills()).containsExactly("Java", "Spring");
+        assertThat(candidates.get(0).matchedCertifications()).containsExactly("Oracle Certified Java Programmer");
+        assertThat(candidates.get(1).matchedSkills()).containsExactly("java");
+    }
+
+    @Test
+    void certificationsAndLocationRaiseTheScore() {
+        index.indexProfile(trainer(4L, "dave", "Delhi", List.of("Java", "Spring"), List.of()));
+
+        List<TrainerIndex.Candidate> candidates = index.rankFor(post("Bangalore", "Java", "Spring"), 10);
+
+        assertThat(candidates).extracting(TrainerIndex.Candidate::trainerId).startsWith(1L, 4L);
+    }
+
+    @Test
+    void keepsOnlyTheBestLimit() {
+        assertThat(index.rankFor(post("Bangalore", "Java"), 1))
+                .extracting(TrainerIndex.Candidate::trainerId)
+                .containsExactly(1L);
+        assertThat(index.rankFor(post("Bangalore"), 10)).isEmpty();
+    }
+
+    @Test
+    void reindexingReplacesTheProfile() {
+        index.indexProfile(trainer(2L, "bobby", "Pune", List.of("Go"), List.of()));
+
+        assertThat(index.findByUsername("bob")).isEmpty();
+        assertThat(index.findByUsername("bobby")).get().extracting(TrainerDocument::id).isEqualTo(2L);
+        assertThat(index.rankFor(post("Pune", "Java"), 10))
+                .extracting(TrainerIndex.Candidate::trainerId)
+                .containsExactly(1L);
+    }
+
+    @Test
+    void indexesIdsBeyondIntRange() {
+        long large = Integer.MAX_VALUE + 5L;
+        index.indexProfile(trainer(large, "erin", "Chennai", List.of("Rust"), List.of()));
+
+        assertThat(index.rankFor(post("Chennai", "Rust"), 10))
+                .extracting(TrainerIndex.Candidate::trainerId)
+                .containsExactly(large);
+    }
+
+    @Test
+    void clearDropsEveryProfile() {
+        index.clearProfiles();
+
+        assertThat(index.findByUsername("alice")).isEmpty();
+        assertThat(index.rankFor(post("Bangalore", "Java"), 10)).isEmpty();
+    }
+
+    private static TrainerDocument trainer(Long id, String username, String location, List<String> skills,
+                                           List<String> certifications) {
+        return new TrainerDocument(id, username, location, null, skills, certifications);
+    }
+
+    private static PostDocument post(String location, String... skills) {
+        return new PostDocument(9L, "Title", null, "Company", location, null, null, List.of(skills), null,
+                "company", null);
+    }
+}
@@ -0,0 +1,72 @@
+package com.trainersindia.portal.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TrigramIndexTest {
+
+    private TrigramIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new TrigramIndex();
+        index.index(post(1L, "Java Developer", "Acme", List.of("Spring")));
+        index.index(post(2L, "Python Engineer", "Globex", List.of("Django")));
+        index.index(post(3L, "Kubernetes Administrator", "Initech", List.of("Docker")));
+    }
+
+    @Test
+    void padsTrigramsLikePgTrgm() {
+        assertThat(TrigramIndex.trigrams("java")).containsExactly("  j", " ja", "jav", "ava", "va ");
+    }
+
+    @Test
+    void findsPostsDespiteTypos() {
+        assertThat(index.search("pythn", 10)).containsExactly(2L);
+        assertThat(index.search("kubernets", 10)).containsExactly(3L);
+        assertThat(index.search("developr", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void ranksPostsMatchingMoreQueryTermsFirst() {
+        index.index(post(4L, "Java Architect", "Globex", List.of()));
+
+        assertThat(index.search("jva develper", 10)).startsWith(1L);
+    }
+
+    @Test
+    void ignoresTermsBelowTheSimilarityThreshold() {
+        assertThat(index.search("zzzz", 10)).isEmpty();
+        assertThat(index.search("", 10)).isEmpty();
+    }
+
+    @Test
+    void respectsTheLimit() {
+        index.index(post(4L, "Java Architect", "Acme", List.of()));
+
+        assertThat(index.search("java", 1)).hasSize(1);
+    }
+
+    @Test
+    void removedPostsAndTheirVocabularyAreDropped() {
+        index.remove(2L);
+
+        assertThat(index.search("python", 10)).isEmpty();
+    }
+
+    @Test
+    void indexesIdsBeyondIntRange() {
+        long large = Integer.MAX_VALUE + 2L;
+        index.index(post(large, "Rust Engineer", "Hooli", List.of()));
+
+        assertThat(index.search("rusty", 10)).containsExactly(large);
+    }
+
+    private static PostDocument post(Long id, String title, String companyName, List<String> skills) {
+        return new PostDocument(id, title, null, companyName, null, null, null, skills, null, "company", null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.trainersindia.portal.security;
+
+import com.trainersindia.portal.entity.RevokedAccessToken;
+import com.trainersindia.portal.repository.RevokedAccessTokenRepository;
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Date;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AccessTokenDenylistTest {
+
+    private RevokedAccessTokenRepository repository;
+    private AccessTokenDenylist denylist;
+
+    @BeforeEach
+    void setUp() {
+        repository = mock(RevokedAccessTokenRepository.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        denylist = new AccessTokenDenylist(repository, transactionTemplate);
+        ReflectionTestUtils.setField(denylist, "expectedRevocations", 100);
+        ReflectionTestUtils.setField(denylist, "falsePositiveRate", 0.01);
+    }
+
+    @Test
+    void loadsUnexpiredRevocationsOnStartup() {
+        Instant now = Instant.now();
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedAccessToken("jti-1", now.plus(1, ChronoUnit.HOURS), now)));
+
+        denylist.afterSingletonsInstantiated();
+
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+        assertThat(denylist.isRevoked("jti-2")).isFalse();
+        assertThat(denylist.isRevoked(null)).isFalse();
+        verify(repository).deleteExpired(any());
+    }
+
+    @Test
+    void revokedTokenIsDeniedUntilItExpires() {
+        denylist.afterSingletonsInstantiated();
+
+        denylist.revoke(claims("jti-1", Instant.now().plus(1, ChronoUnit.HOURS)));
+        denylist.revoke(claims("jti-2", Instant.now().minusSeconds(1)));
+
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+        assertThat(denylist.isRevoked("jti-2")).isFalse();
+        verify(repository, times(2)).save(any(RevokedAccessToken.class));
+    }
+
+    @Test
+    void tokensWithoutIdOrExpiryCannotBeRevoked() {
+        denylist.afterSingletonsInstantiated();
+
+        denylist.revoke(Jwts.claims().setSubject("asha").setExpiration(new Date()));
+        denylist.revoke(Jwts.claims().setId("jti-1"));
+
+        verify(repository, never()).save(any());
+        assertThat(denylist.isRevoked("jti-1")).isFalse();
+    }
+
+    @Test
+    void rebuildKeepsLocalRevocationsNotYetReadBack() {
+        denylist.afterSingletonsInstantiated();
+        denylist.revoke(claims("jti-1", Instant.now().plus(1, ChronoUnit.HOURS)));
+
+        // The table read does not include the revocation made above
+        denylist.rebuild();
+
+        assertThat(denylist.isRevoked("jti-1")).isTrue();
+    }
+
+    @Test
+    void rebuildPicksUpRevocationsFromOtherInstances() {
+        denylist.afterSingletonsInstantiated();
+        Instant now = Instant.now();
+        when(repository.findByExpiresAtAfter(any())).thenReturn(List.of(
+                new RevokedAccessToken("jti-9", now.plus(1, ChronoUnit.HOURS), now)));
+
+        denylist.rebuild();
+
+        assertThat(denylist.isRevoked("jti-9")).isTrue();
+    }
+
+    private static Claims claims(String jti, Instant expiresAt) {
+        return Jwts.claims().setId(jti).setSubject("asha").setExpiration(Date.from(expiresAt));
+    }
+}
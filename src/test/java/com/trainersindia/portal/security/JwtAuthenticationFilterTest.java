@@ -0,0 +1,156 @@
+package com.trainersindia.portal.security;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.security.web.context.RequestAttributeSecurityContextRepository;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JwtAuthenticationFilterTest {
+
+    private static final String TOKEN = "header.payload.signature";
+
+    private JwtTokenProvider tokenProvider;
+    private CustomUserDetailsService userDetailsService;
+    private UserTokenStateCache userTokenStateCache;
+    private AccessTokenDenylist accessTokenDenylist;
+    private JwtAuthenticationFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        tokenProvider = mock(JwtTokenProvider.class);
+        userDetailsService = mock(CustomUserDetailsService.class);
+        userTokenStateCache = mock(UserTokenStateCache.class);
+        accessTokenDenylist = mock(AccessTokenDenylist.class);
+        filter = new JwtAuthenticationFilter(tokenProvider, userDetailsService, userTokenStateCache,
+                accessTokenDenylist);
+        ReflectionTestUtils.setField(filter, "claimsOnly", true);
+    }
+
+    @AfterEach
+    void clearContext() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void currentTokenAuthenticatesFromClaims() throws Exception {
+        Claims claims = claims(3);
+        when(tokenProvider.getPrincipalFromClaims(claims))
+                .thenReturn(UserPrincipal.fromClaims(7L, "asha", List.of("ROLE_TRAINER"), 3));
+        when(userTokenStateCache.isCurrent(7L, 3)).thenReturn(true);
+
+        MockHttpServletRequest request = request();
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        assertThat(authentication.getName()).isEqualTo("asha");
+        assertThat(authentication.getAuthorities()).extracting(Object::toString).containsExactly("ROLE_TRAINER");
+        assertThat(chain.getRequest()).isSameAs(request);
+        assertThat(((SecurityContext) request.getAttribute(
+                RequestAttributeSecurityContextRepository.DEFAULT_REQUEST_ATTR_NAME)).getAuthentication())
+                .isSameAs(authentication);
+        verify(userDetailsService, never()).loadUserByTokenSubject(anyString());
+    }
+
+    @Test
+    void supersededTokenVersionIsNotAuthenticated() throws Exception {
+        Claims claims = claims(2);
+        when(tokenProvider.getPrincipalFromClaims(claims))
+                .thenReturn(UserPrincipal.fromClaims(7L, "asha", List.of("ROLE_TRAINER"), 2));
+        when(userTokenStateCache.isCurrent(7L, 3)).thenReturn(true);
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(userTokenStateCache).isCurrent(7L, 2);
+    }
+
+    @Test
+    void revokedTokenIsNotAuthenticated() throws Exception {
+        claims(3);
+        when(accessTokenDenylist.isRevoked("jti-1")).thenReturn(true);
+
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request(), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(tokenProvider, never()).getPrincipalFromClaims(any());
+        verify(userTokenStateCache, never()).isCurrent(anyLong(), anyInt());
+    }
+
+    @Test
+    void legacyTokenFallsBackToLoadingTheUser() throws Exception {
+        Claims claims = Jwts.claims().setSubject("asha");
+        when(tokenProvider.parseValidToken(TOKEN)).thenReturn(Optional.of(claims));
+        UserPrincipal loaded = UserPrincipal.fromClaims(7L, "asha", List.of("ROLE_TRAINER"), 5);
+        when(userDetailsService.loadUserByTokenSubject("asha")).thenReturn(loaded);
+        when(userTokenStateCache.isCurrent(7L, 5)).thenReturn(true);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getPrincipal()).isSameAs(loaded);
+    }
+
+    @Test
+    void fullLookupIsUsedWhenClaimsOnlyIsOff() throws Exception {
+        ReflectionTestUtils.setField(filter, "claimsOnly", false);
+        claims(3);
+        when(userDetailsService.loadUserByTokenSubject("asha"))
+                .thenReturn(UserPrincipal.fromClaims(7L, "asha", List.of("ROLE_TRAINER"), 3));
+        when(userTokenStateCache.isCurrent(7L, 3)).thenReturn(true);
+
+        filter.doFilter(request(), new MockHttpServletResponse(), new MockFilterChain());
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication().getName()).isEqualTo("asha");
+        verify(tokenProvider, never()).getPrincipalFromClaims(any());
+    }
+
+    @Test
+    void requestWithoutTokenPassesThroughUnauthenticated() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(new MockHttpServletRequest("GET", "/api/posts"), new MockHttpServletResponse(), chain);
+
+        assertThat(SecurityContextHolder.getContext().getAuthentication()).isNull();
+        assertThat(chain.getRequest()).isNotNull();
+        verify(userTokenStateCache, never()).isCurrent(anyLong(), anyInt());
+    }
+
+    private Claims claims(int tokenVersion) {
+        Claims claims = Jwts.claims().setSubject("asha").setId("jti-1");
+        claims.put(JwtTokenProvider.USER_ID_CLAIM, 7L);
+        claims.put(JwtTokenProvider.TOKEN_VERSION_CLAIM, tokenVersion);
+        when(tokenProvider.parseValidToken(TOKEN)).thenReturn(Optional.of(claims));
+        return claims;
+    }
+
+    private static MockHttpServletRequest request() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/posts");
+        request.addHeader("Authorization", "Bearer " + TOKEN);
+        return request;
+    }
+}
@@ -0,0 +1,122 @@
+package com.trainersindia.portal.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainersindia.portal.config.RateLimitConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitConfig config = new RateLimitConfig();
+        RateLimitConfig.Endpoint login = new RateLimitConfig.Endpoint();
+        login.setPath("/api/auth/login");
+        login.setIp(limit(3));
+        login.setEmail(limit(1));
+        config.setEndpoints(Map.of("login", login));
+        filter = new RateLimitFilter(config, new TokenBucketRateLimiter(config), new ObjectMapper());
+    }
+
+    @Test
+    void limitsByEmailAndKeepsTheBodyReadable() throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse first = send(login("10.0.0.1", "{\"email\":\"Asha@Example.com\"}", true), chain);
+
+        assertThat(first.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(chain.getRequest().getInputStream().readAllBytes())
+                .asString(StandardCharsets.UTF_8).isEqualTo("{\"email\":\"Asha@Example.com\"}");
+
+        // Same email from another address, differently cased
+        MockHttpServletResponse second = send(login("10.0.0.2", "{\"email\":\" asha@example.com\"}", true),
+                new MockFilterChain());
+        assertThat(second.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(second.getHeader("Retry-After")).isNotNull();
+    }
+
+    @Test
+    void limitsByIpBeforeReadingTheBody() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            send(login("10.0.0.1", "{\"email\":\"user" + i + "@example.com\"}", true), new MockFilterChain());
+        }
+
+        MockFilterChain chain = new MockFilterChain();
+        MockHttpServletResponse response = send(login("10.0.0.1", "{\"email\":\"other@example.com\"}", true), chain);
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(chain.getRequest()).isNull();
+    }
+
+    @Test
+    void rejectsOversizedBodiesWithOrWithoutContentLength() throws Exception {
+        String body = "{\"email\":\"asha@example.com\",\"padding\":\"" + "x".repeat(16 * 1024) + "\"}";
+
+        MockFilterChain declared = new MockFilterChain();
+        assertThat(send(login("10.0.0.1", body, true), declared).getStatus())
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        MockFilterChain chunked = new MockFilterChain();
+        assertThat(send(login("10.0.0.2", body, false), chunked).getStatus())
+                .isEqualTo(HttpStatus.PAYLOAD_TOO_LARGE.value());
+        assertThat(declared.getRequest()).isNull();
+        assertThat(chunked.getRequest()).isNull();
+    }
+
+    @Test
+    void chunkedBodyIsStillInspected() throws Exception {
+        send(login("10.0.0.1", "{\"email\":\"asha@example.com\"}", false), new MockFilterChain());
+
+        MockHttpServletResponse response = send(login("10.0.0.2", "{\"email\":\"asha@example.com\"}", false),
+                new MockFilterChain());
+
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+
+    @Test
+    void otherEndpointsAreNotFiltered() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/posts");
+        request.setContent(new byte[32 * 1024]);
+        MockFilterChain chain = new MockFilterChain();
+
+        assertThat(send(request, chain).getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(chain.getRequest()).isSameAs(request);
+    }
+
+    private MockHttpServletResponse send(MockHttpServletRequest request, MockFilterChain chain) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        filter.doFilter(request, response, chain);
+        return response;
+    }
+
+    private static MockHttpServletRequest login(String remoteAddr, String body, boolean withContentLength) {
+        MockHttpServletRequest request = withContentLength
+                ? new MockHttpServletRequest("POST", "/api/auth/login")
+                : new MockHttpServletRequest("POST", "/api/auth/login") {
+                    @Override
+                    public long getContentLengthLong() {
+                        return -1;
+                    }
+                };
+        request.setRemoteAddr(remoteAddr);
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return request;
+    }
+
+    private static RateLimitConfig.Limit limit(int capacity) {
+        RateLimitConfig.Limit limit = new RateLimitConfig.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerMinute(1);
+        return limit;
+    }
+}
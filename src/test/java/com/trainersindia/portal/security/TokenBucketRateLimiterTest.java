@@ -0,0 +1,126 @@
+package com.trainersindia.portal.security;
+
+import com.trainersindia.portal.config.RateLimitConfig;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TokenBucketRateLimiterTest {
+
+    private RateLimitConfig config;
+    private TokenBucketRateLimiter limiter;
+
+    @BeforeEach
+    void setUp() {
+        config = new RateLimitConfig();
+        limiter = new TokenBucketRateLimiter(config);
+    }
+
+    @Test
+    void allowsBurstsUpToCapacityThenReportsTheWait() {
+        RateLimitConfig.Limit limit = limit(3, 60);
+
+        for (int i = 0; i < 3; i++) {
+            assertThat(limiter.tryAcquire("ip:1", limit)).isZero();
+        }
+        long waitNanos = limiter.tryAcquire("ip:1", limit);
+
+        // One token a second
+        assertThat(waitNanos).isPositive().isLessThanOrEqualTo(TimeUnit.SECONDS.toNanos(1));
+        assertThat(limiter.tryAcquire("ip:2", limit)).isZero();
+    }
+
+    @Test
+    void refillsOverTime() throws InterruptedException {
+        // One token a millisecond
+        RateLimitConfig.Limit limit = limit(1, 60_000);
+        assertThat(limiter.tryAcquire("ip:1", limit)).isZero();
+
+        Thread.sleep(20);
+
+        assertThat(limiter.tryAcquire("ip:1", limit)).isZero();
+    }
+
+    @Test
+    void bucketWithoutRefillNeverRecovers() {
+        RateLimitConfig.Limit limit = limit(1, 0);
+        limiter.tryAcquire("ip:1", limit);
+
+        assertThat(limiter.tryAcquire("ip:1", limit)).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void evictsOnlyIdleBucketsThatHaveRefilled() throws InterruptedException {
+        config.setIdleEviction(Duration.ZERO);
+        limiter.tryAcquire("full", limit(1, 60_000));
+        limiter.tryAcquire("draining", limit(2, 0));
+        Thread.sleep(20);
+
+        limiter.evictIdle();
+
+        assertThat(buckets()).containsOnlyKeys("draining");
+        // Eviction must not hand the drained bucket a fresh allowance
+        limiter.tryAcquire("draining", limit(2, 0));
+        assertThat(limiter.tryAcquire("draining", limit(2, 0))).isEqualTo(Long.MAX_VALUE);
+    }
+
+    @Test
+    void recentlyUsedBucketsAreKept() {
+        config.setIdleEviction(Duration.ofMinutes(10));
+        limiter.tryAcquire("ip:1", limit(1, 60_000));
+
+        limiter.evictIdle();
+
+        assertThat(buckets()).containsOnlyKeys("ip:1");
+    }
+
+    @Test
+    void concurrentRequestsNeverExceedCapacity() throws Exception {
+        RateLimitConfig.Limit limit = limit(100, 0);
+        AtomicInteger allowed = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                futures.add(pool.submit(() -> {
+                    for (int i = 0; i < 50; i++) {
+                        if (limiter.tryAcquire("ip:1", limit) == 0) {
+                            allowed.incrementAndGet();
+                        }
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+
+        assertThat(allowed).hasValue(100);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, ?> buckets() {
+        return (Map<String, ?>) ReflectionTestUtils.getField(limiter, "buckets");
+    }
+
+    private static RateLimitConfig.Limit limit(int capacity, int refillPerMinute) {
+        RateLimitConfig.Limit limit = new RateLimitConfig.Limit();
+        limit.setCapacity(capacity);
+        limit.setRefillPerMinute(refillPerMinute);
+        return limit;
+    }
+}
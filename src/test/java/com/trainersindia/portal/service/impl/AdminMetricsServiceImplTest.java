@@ -0,0 +1,268 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.entity.MetricUserState;
+import com.trainersindia.portal.entity.MetricWatermark;
+import com.trainersindia.portal.repository.MetricBucketRepository;
+import com.trainersindia.portal.repository.MetricTotalRepository;
+import com.trainersindia.portal.repository.MetricUserStateRepository;
+import com.trainersindia.portal.repository.MetricWatermarkRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.ResultSet;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.startsWith;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AdminMetricsServiceImplTest {
+
+    private static final LocalDateTime T0 = LocalDateTime.of(2024, 3, 1, 10, 15);
+
+    private MetricWatermarkRepository watermarkRepository;
+    private MetricUserStateRepository userStateRepository;
+    private JdbcTemplate jdbcTemplate;
+    private AdminMetricsServiceImpl service;
+
+    private final Map<String, MetricWatermark> watermarks = new HashMap<>();
+    // Batches each source query returns, in order, keyed by source table
+    private final Map<String, Deque<List<Map<String, Object>>>> batches = new HashMap<>();
+    private final List<Query> queries = new ArrayList<>();
+    private final List<Map.Entry<String, List<Object[]>>> batchUpdates = new ArrayList<>();
+
+    private record Query(String table, List<Object> args) {
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() throws Exception {
+        watermarkRepository = mock(MetricWatermarkRepository.class);
+        userStateRepository = mock(MetricUserStateRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        TransactionTemplate transactionTemplate = mock(TransactionTemplate.class);
+        service = new AdminMetricsServiceImpl(mock(MetricBucketRepository.class), mock(MetricTotalRepository.class),
+                watermarkRepository, userStateRepository, jdbcTemplate, transactionTemplate);
+        ReflectionTestUtils.setField(service, "batchSize", 2);
+        ReflectionTestUtils.setField(service, "lag", Duration.ofMinutes(1));
+        ReflectionTestUtils.setField(service, "reconcileDays", 2);
+
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(mock(TransactionStatus.class)));
+        doAnswer(invocation -> {
+            invocation.<Consumer<TransactionStatus>>getArgument(0).accept(mock(TransactionStatus.class));
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+
+        doAnswer(invocation -> {
+            watermarks.putIfAbsent(invocation.getArgument(0),
+                    new MetricWatermark(invocation.getArgument(0), invocation.getArgument(1), 0));
+            return null;
+        }).when(watermarkRepository).insertIfAbsent(anyString(), any());
+        when(watermarkRepository.findForUpdateBySource(anyString()))
+                .thenAnswer(invocation -> copy(watermarks.get(invocation.<String>getArgument(0))));
+        when(watermarkRepository.save(any())).thenAnswer(invocation -> {
+            MetricWatermark saved = invocation.getArgument(0);
+            watermarks.put(saved.getSource(), copy(saved));
+            return saved;
+        });
+
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), any(Object[].class))).thenAnswer(invocation -> {
+            Object[] arguments = invocation.getArguments();
+            String table = tableOf(invocation.getArgument(0));
+            queries.add(new Query(table, Arrays.asList(arguments).subList(2, arguments.length)));
+            List<Map<String, Object>> rows = batches.getOrDefault(table, new ArrayDeque<>()).poll();
+            List<Object> mapped = new ArrayList<>();
+            RowMapper<?> mapper = invocation.getArgument(1);
+            for (Map<String, Object> row : rows == null ? List.<Map<String, Object>>of() : rows) {
+                mapped.add(mapper.mapRow(resultSet(row), mapped.size()));
+            }
+            return mapped;
+        });
+        when(jdbcTemplate.batchUpdate(anyString(), anyList())).thenAnswer(invocation -> {
+            batchUpdates.add(Map.entry(invocation.<String>getArgument(0), invocation.<List<Object[]>>getArgument(1)));
+            return new int[0];
+        });
+    }
+
+    @Test
+    void rollupAdvancesTheWatermarkBatchByBatch() {
+        batches.put("posts", new ArrayDeque<>(List.of(
+                List.of(created(5, T0), created(3, T0.plusMinutes(10))),
+                List.of(created(9, T0.plusHours(1))))));
+
+        service.rollup();
+
+        List<Query> postQueries = queries.stream().filter(query -> query.table().equals("posts")).toList();
+        assertThat(postQueries).hasSize(2);
+        assertThat(postQueries.get(0).args().subList(0, 2)).containsExactly(LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+        assertThat(postQueries.get(1).args().subList(0, 2)).containsExactly(T0.plusMinutes(10), 3L);
+        assertThat((LocalDateTime) postQueries.get(0).args().get(2)).isBefore(LocalDateTime.now().minusSeconds(59));
+        assertThat(watermarks.get("posts").getLastSeenAt()).isEqualTo(T0.plusHours(1));
+        assertThat(watermarks.get("posts").getLastId()).isEqualTo(9L);
+
+        assertThat(updates("INSERT INTO metric_hourly_buckets")).containsExactlyInAnyOrder(
+                List.of("posts.created", T0.withMinute(0), "", 2L),
+                List.of("posts.created", T0.withMinute(0).plusHours(1), "", 1L));
+    }
+
+    @Test
+    void emptySourceLeavesTheWatermarkUntouched() {
+        service.rollup();
+
+        assertThat(queries).extracting(Query::table)
+                .containsExactly("posts", "job_applications", "file_info", "users");
+        verify(watermarkRepository, never()).save(any());
+    }
+
+    @Test
+    void filesCountIntoBucketsAndStorageTotals() {
+        batches.put("file_info", new ArrayDeque<>(List.of(List.of(
+                file(1, T0, 100), file(2, T0.plusMinutes(5), 50)))));
+
+        service.rollup();
+
+        assertThat(updates("INSERT INTO metric_hourly_buckets")).containsExactlyInAnyOrder(
+                List.of("files.uploaded", T0.withMinute(0), "", 2L),
+                List.of("files.bytes", T0.withMinute(0), "", 150L));
+        assertThat(updates("INSERT INTO metric_totals")).containsExactlyInAnyOrder(
+                List.of("storage", "files", 2L),
+                List.of("storage", "bytes", 150L));
+    }
+
+    @Test
+    void usersMoveBetweenTotalsWhenTheirStateChanges() {
+        batches.put("users", new ArrayDeque<>(List.of(List.of(
+                user(1, T0, "ROLE_TRAINER", true),
+                user(2, T0, "ROLE_COMPANY", false)))));
+        when(userStateRepository.findAllById(List.of(1L, 2L)))
+                .thenReturn(List.of(new MetricUserState(1L, "ROLE_TRAINER", false)));
+
+        service.rollup();
+
+        // Only the new user is a registration
+        assertThat(updates("INSERT INTO metric_hourly_buckets")).containsExactly(
+                List.of("users.registered", T0.minusDays(1).withMinute(0), "ROLE_COMPANY", 1L));
+        assertThat(updates("INSERT INTO metric_totals")).containsExactlyInAnyOrder(
+                List.of("users", "ROLE_TRAINER:unverified", -1L),
+                List.of("users", "ROLE_TRAINER:verified", 1L),
+                List.of("users", "ROLE_COMPANY:unverified", 1L));
+        assertThat(updates("INSERT INTO metric_user_states")).containsExactly(
+                List.of(1L, "ROLE_TRAINER", true),
+                List.of(2L, "ROLE_COMPANY", false));
+    }
+
+    @Test
+    void unchangedUserIsNotCountedAgain() {
+        batches.put("users", new ArrayDeque<>(List.of(List.of(user(1, T0, "ROLE_TRAINER", true)))));
+        when(userStateRepository.findAllById(List.of(1L)))
+                .thenReturn(List.of(new MetricUserState(1L, "ROLE_TRAINER", true)));
+
+        service.rollup();
+
+        assertThat(updates("INSERT INTO metric_totals")).isEmpty();
+        assertThat(updates("INSERT INTO metric_user_states")).isEmpty();
+    }
+
+    @Test
+    void reconcileRecountsBucketsUpToTheWatermarkHour() {
+        LocalDateTime from = LocalDate.now().minusDays(2).atStartOfDay();
+        LocalDateTime reached = LocalDateTime.now().minusMinutes(30);
+        watermarks.put("posts", new MetricWatermark("posts", reached, 42));
+        watermarks.put("file_info", new MetricWatermark("file_info", reached, 7));
+        LocalDateTime until = reached.withMinute(0).withSecond(0).withNano(0);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(SUM(amount), 0)"), eq(Long.class),
+                any(Object[].class))).thenReturn(0L);
+        // Bucket sums before and after the recount: two late files with 500 bytes between them
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(SUM(amount), 0)"), eq(Long.class),
+                eq("files.uploaded"), eq(from), eq(until))).thenReturn(10L, 12L);
+        when(jdbcTemplate.queryForObject(startsWith("SELECT COALESCE(SUM(amount), 0)"), eq(Long.class),
+                eq("files.bytes"), eq(from), eq(until))).thenReturn(1000L, 1500L);
+
+        service.reconcile();
+
+        verify(jdbcTemplate).update(startsWith("DELETE FROM metric_hourly_buckets"), eq("posts.created"),
+                eq(from), eq(until));
+        verify(jdbcTemplate).update(startsWith("INSERT INTO metric_hourly_buckets"), eq("posts.created"),
+                eq(from), eq(until));
+        assertThat(updates("INSERT INTO metric_totals")).containsExactlyInAnyOrder(
+                List.of("storage", "files", 2L),
+                List.of("storage", "bytes", 500L));
+        // Nothing outside the window is read from file_info
+        verify(jdbcTemplate, never()).queryForObject(startsWith("SELECT COUNT(*)"), any(RowMapper.class),
+                any(Object[].class));
+        // job_applications has never been rolled up, so there is nothing to recount
+        verify(jdbcTemplate, never()).update(startsWith("DELETE FROM metric_hourly_buckets"),
+                eq("applications.created"), any(), any());
+        assertThat(queries).extracting(Query::table).containsExactly("users");
+        // Only users updated inside the window are checked
+        assertThat(queries.get(0).args().subList(0, 3)).containsExactly(from, LocalDateTime.of(1970, 1, 1, 0, 0), 0L);
+    }
+
+    private List<List<Object>> updates(String sqlPrefix) {
+        return batchUpdates.stream()
+                .filter(update -> update.getKey().startsWith(sqlPrefix))
+                .flatMap(update -> update.getValue().stream())
+                .map(Arrays::asList)
+                .toList();
+    }
+
+    private static String tableOf(String sql) {
+        for (String table : List.of("job_applications", "file_info", "posts", "users")) {
+            if (sql.contains("FROM " + table)) {
+                return table;
+            }
+        }
+        throw new IllegalArgumentException(sql);
+    }
+
+    private static Map<String, Object> created(long id, LocalDateTime at) {
+        return Map.of("id", id, "seen_at", at);
+    }
+
+    private static Map<String, Object> file(long id, LocalDateTime at, long bytes) {
+        return Map.of("id", id, "seen_at", at, "bytes", bytes);
+    }
+
+    private static Map<String, Object> user(long id, LocalDateTime at, String roles, boolean active) {
+        return Map.of("id", id, "seen_at", at, "created_at", at.minusDays(1), "active", active, "roles", roles);
+    }
+
+    private static ResultSet resultSet(Map<String, Object> row) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getBoolean(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getString(anyString())).thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        when(rs.getObject(anyString(), eq(LocalDateTime.class)))
+                .thenAnswer(invocation -> row.get(invocation.<String>getArgument(0)));
+        return rs;
+    }
+
+    private static MetricWatermark copy(MetricWatermark watermark) {
+        return new MetricWatermark(watermark.getSource(), watermark.getLastSeenAt(), watermark.getLastId());
+    }
+}
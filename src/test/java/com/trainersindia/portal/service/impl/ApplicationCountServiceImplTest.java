@@ -0,0 +1,77 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.entity.ApplicationStatus;
+import com.trainersindia.portal.repository.CompanyApplicationDayRepository;
+import com.trainersindia.portal.repository.PostApplicationCountRepository;
+import com.trainersindia.portal.service.ApplicationCountService.Transition;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
+
+class ApplicationCountServiceImplTest {
+
+    private PostApplicationCountRepository countRepository;
+    private CompanyApplicationDayRepository dayRepository;
+    private ApplicationCountServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        countRepository = mock(PostApplicationCountRepository.class);
+        dayRepository = mock(CompanyApplicationDayRepository.class);
+        service = new ApplicationCountServiceImpl(countRepository, dayRepository);
+    }
+
+    @Test
+    void transitionsAreNettedAndAppliedInLockOrder() {
+        service.recordTransitions(List.of(
+                new Transition(20L, ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED, 2),
+                new Transition(10L, null, ApplicationStatus.PENDING, 1),
+                new Transition(20L, ApplicationStatus.ACCEPTED, ApplicationStatus.REJECTED, 1),
+                new Transition(10L, ApplicationStatus.PENDING, ApplicationStatus.WITHDRAWN, 1)));
+
+        InOrder order = inOrder(countRepository);
+        order.verify(countRepository).increment(10L, "WITHDRAWN", 1);
+        order.verify(countRepository).increment(20L, "PENDING", -2);
+        order.verify(countRepository).increment(20L, "ACCEPTED", 1);
+        order.verify(countRepository).increment(20L, "REJECTED", 1);
+        // PENDING for post 10 nets to zero
+        verifyNoMoreInteractions(countRepository);
+    }
+
+    @Test
+    void emptyTransitionsAreSkipped() {
+        service.recordTransitions(List.of(
+                new Transition(10L, ApplicationStatus.PENDING, ApplicationStatus.PENDING, 3),
+                new Transition(10L, ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED, 0)));
+
+        verify(countRepository, never()).increment(anyLong(), anyString(), anyLong());
+    }
+
+    @Test
+    void rebuildLocksBothTablesBeforeRecounting() {
+        when(countRepository.insertCountsFromApplications()).thenReturn(7);
+        when(dayRepository.insertCountsFromApplications()).thenReturn(3);
+
+        assertThat(service.rebuild()).isEqualTo(7);
+
+        InOrder order = inOrder(countRepository, dayRepository);
+        order.verify(countRepository).lockForRebuild();
+        order.verify(dayRepository).lockForRebuild();
+        order.verify(countRepository).deleteAllCounts();
+        order.verify(dayRepository).deleteAllCounts();
+        order.verify(countRepository).insertCountsFromApplications();
+        order.verify(dayRepository).insertCountsFromApplications();
+    }
+}
@@ -0,0 +1,145 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.dto.ApplicationOwnership;
+import com.trainersindia.portal.dto.ApplicationStatusBatchRequest;
+import com.trainersindia.portal.dto.ApplicationStatusBatchResponse;
+import com.trainersindia.portal.entity.ApplicationStatus;
+import com.trainersindia.portal.repository.JobApplicationRepository;
+import com.trainersindia.portal.repository.PostRepository;
+import com.trainersindia.portal.repository.TrainerProfileRepository;
+import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.service.ApplicationCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class JobApplicationServiceImplTest {
+
+    private JobApplicationRepository applicationRepository;
+    private ApplicationCountService applicationCountService;
+    private JobApplicationServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        applicationRepository = mock(JobApplicationRepository.class);
+        applicationCountService = mock(ApplicationCountService.class);
+        service = new JobApplicationServiceImpl(applicationRepository, mock(TrainerProfileRepository.class),
+                mock(PostRepository.class), mock(UserRepository.class), applicationCountService);
+
+        when(applicationRepository.findOwnershipByIdIn(anyCollection())).thenReturn(List.of(
+                new ApplicationOwnership(1L, 10L, "acme", ApplicationStatus.PENDING),
+                new ApplicationOwnership(2L, 10L, "acme", ApplicationStatus.PENDING),
+                new ApplicationOwnership(3L, 20L, "acme", ApplicationStatus.UNDER_REVIEW),
+                new ApplicationOwnership(4L, 20L, "acme", ApplicationStatus.ACCEPTED),
+                new ApplicationOwnership(5L, 30L, "globex", ApplicationStatus.PENDING)));
+    }
+
+    @Test
+    void reportsAnOutcomePerUpdateInRequestOrder() {
+        when(applicationRepository.updateStatusByIdIn(anyCollection(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+
+        ApplicationStatusBatchResponse response = service.updateStatuses(request(
+                update(2L, ApplicationStatus.ACCEPTED),
+                update(4L, ApplicationStatus.ACCEPTED),
+                update(5L, ApplicationStatus.REJECTED),
+                update(99L, ApplicationStatus.REJECTED),
+                update(2L, ApplicationStatus.REJECTED)), "acme");
+
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(response.results()).extracting(ApplicationStatusBatchResponse.Result::outcome).containsExactly(
+                ApplicationStatusBatchResponse.Outcome.UPDATED,
+                ApplicationStatusBatchResponse.Outcome.UNCHANGED,
+                ApplicationStatusBatchResponse.Outcome.FORBIDDEN,
+                ApplicationStatusBatchResponse.Outcome.NOT_FOUND,
+                ApplicationStatusBatchResponse.Outcome.DUPLICATE);
+        verify(applicationRepository).lockByIdIn(List.of(2L, 4L, 5L, 99L, 2L));
+    }
+
+    @Test
+    void groupsUpdatesByPostAndTransition() {
+        when(applicationRepository.updateStatusByIdIn(anyCollection(), any(), any(), any()))
+                .thenAnswer(invocation -> invocation.<Collection<?>>getArgument(0).size());
+
+        ApplicationStatusBatchResponse response = service.updateStatuses(request(
+                update(1L, ApplicationStatus.ACCEPTED),
+                update(3L, ApplicationStatus.REJECTED),
+                update(2L, ApplicationStatus.ACCEPTED)), "acme");
+
+        assertThat(response.updated()).isEqualTo(3);
+        verify(applicationRepository).updateStatusByIdIn(eq(List.of(1L, 2L)), eq(ApplicationStatus.PENDING),
+                eq(ApplicationStatus.ACCEPTED), any());
+        verify(applicationRepository).updateStatusByIdIn(eq(List.of(3L)), eq(ApplicationStatus.UNDER_REVIEW),
+                eq(ApplicationStatus.REJECTED), any());
+        assertThat(recordedTransitions()).containsExactly(
+                new ApplicationCountService.Transition(10L, ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED, 2),
+                new ApplicationCountService.Transition(20L, ApplicationStatus.UNDER_REVIEW,
+                        ApplicationStatus.REJECTED, 1));
+    }
+
+    @Test
+    void countersFollowTheRowsActuallyChanged() {
+        when(applicationRepository.updateStatusByIdIn(anyCollection(), any(), any(), any())).thenReturn(1);
+        // Application 2 was moved by another request between the read and the update
+        when(applicationRepository.findOwnershipByIdIn(List.of(1L, 2L))).thenReturn(List.of(
+                new ApplicationOwnership(1L, 10L, "acme", ApplicationStatus.PENDING),
+                new ApplicationOwnership(2L, 10L, "acme", ApplicationStatus.PENDING)), List.of(
+                new ApplicationOwnership(1L, 10L, "acme", ApplicationStatus.ACCEPTED),
+                new ApplicationOwnership(2L, 10L, "acme", ApplicationStatus.WITHDRAWN)));
+
+        ApplicationStatusBatchResponse response = service.updateStatuses(request(
+                update(1L, ApplicationStatus.ACCEPTED),
+                update(2L, ApplicationStatus.ACCEPTED)), "acme");
+
+        assertThat(response.updated()).isEqualTo(1);
+        assertThat(response.results()).extracting(ApplicationStatusBatchResponse.Result::outcome).containsExactly(
+                ApplicationStatusBatchResponse.Outcome.UPDATED,
+                ApplicationStatusBatchResponse.Outcome.CONFLICT);
+        assertThat(recordedTransitions()).containsExactly(
+                new ApplicationCountService.Transition(10L, ApplicationStatus.PENDING, ApplicationStatus.ACCEPTED, 1));
+    }
+
+    @Test
+    void nothingToChangeWritesNothing() {
+        ApplicationStatusBatchResponse response = service.updateStatuses(request(
+                update(4L, ApplicationStatus.ACCEPTED),
+                update(5L, ApplicationStatus.ACCEPTED)), "acme");
+
+        assertThat(response.updated()).isZero();
+        verify(applicationRepository, never()).updateStatusByIdIn(anyCollection(), any(), any(), any());
+        assertThat(recordedTransitions()).isEmpty();
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<ApplicationCountService.Transition> recordedTransitions() {
+        ArgumentCaptor<List<ApplicationCountService.Transition>> transitions = ArgumentCaptor.forClass(List.class);
+        verify(applicationCountService).recordTransitions(transitions.capture());
+        return transitions.getValue();
+    }
+
+    private static ApplicationStatusBatchRequest request(ApplicationStatusBatchRequest.Update... updates) {
+        ApplicationStatusBatchRequest request = new ApplicationStatusBatchRequest();
+        request.setUpdates(new ArrayList<>(List.of(updates)));
+        return request;
+    }
+
+    private static ApplicationStatusBatchRequest.Update update(Long applicationId, ApplicationStatus status) {
+        ApplicationStatusBatchRequest.Update update = new ApplicationStatusBatchRequest.Update();
+        update.setApplicationId(applicationId);
+        update.setStatus(status);
+        return update;
+    }
+}
@@ -0,0 +1,75 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.dto.JobRecommendationResponse;
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.repository.PostRepository;
+import com.trainersindia.portal.repository.TrainerProfileRepository;
+import com.trainersindia.portal.search.JobRecommendationIndex;
+import com.trainersindia.portal.search.TrainerDocument;
+import com.trainersindia.portal.search.TrainerIndex;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class MatchingServiceImplTest {
+
+    private JobRecommendationIndex recommendationIndex;
+    private PostRepository postRepository;
+    private MatchingServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        recommendationIndex = mock(JobRecommendationIndex.class);
+        TrainerIndex trainerIndex = mock(TrainerIndex.class);
+        postRepository = mock(PostRepository.class);
+        service = new MatchingServiceImpl(recommendationIndex, trainerIndex, postRepository,
+                mock(TrainerProfileRepository.class));
+
+        when(trainerIndex.findByUsername("asha")).thenReturn(Optional.of(
+                new TrainerDocument(1L, "asha", "Pune", "5 years", List.of("Java", "Spring"), List.of())));
+    }
+
+    @Test
+    void recommendationsCarryPostSummariesInRankOrder() {
+        when(recommendationIndex.recommend(any(), eq(10), any())).thenReturn(List.of(
+                new JobRecommendationIndex.Recommendation(30L, 0.9, List.of("Java", "Spring")),
+                new JobRecommendationIndex.Recommendation(10L, 0.5, List.of("Java")),
+                new JobRecommendationIndex.Recommendation(20L, 0.2, List.of("Spring"))));
+        // Post 10 was deleted since it was indexed
+        when(postRepository.findSummariesByIdIn(List.of(30L, 10L, 20L)))
+                .thenReturn(List.of(summary(30L), summary(20L)));
+
+        List<JobRecommendationResponse> recommendations = service.recommendJobs("asha", 10);
+
+        assertThat(recommendations).extracting(recommendation -> recommendation.getPost().id())
+                .containsExactly(30L, 20L);
+        assertThat(recommendations.get(0).getScore()).isEqualTo(0.9);
+        assertThat(recommendations.get(0).getMatchedSkills()).containsExactly("Java", "Spring");
+        verify(postRepository, never()).findAllById(any());
+    }
+
+    @Test
+    void limitIsClamped() {
+        when(recommendationIndex.recommend(any(), eq(50), any())).thenReturn(List.of());
+
+        assertThat(service.recommendJobs("asha", 1000)).isEmpty();
+        verify(postRepository, never()).findSummariesByIdIn(anyList());
+    }
+
+    private static PostSummary summary(Long id) {
+        return new PostSummary(id, "Post " + id, "Acme", "Pune", "Full-time", "Mid", null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), List.of("Java"));
+    }
+}
@@ -0,0 +1,238 @@
+package com.trainersindia.portal.service.impl;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.trainersindia.portal.dto.PostImportReport;
+import com.trainersindia.portal.entity.User;
+import com.trainersindia.portal.exception.UserException;
+import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.search.PostChangedEvent;
+import jakarta.validation.Validation;
+import jakarta.validation.ValidatorFactory;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.BatchPreparedStatementSetter;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostImportServiceImplTest {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    private static ValidatorFactory validatorFactory;
+
+    private UserRepository userRepository;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate transactionTemplate;
+    private ApplicationEventPublisher eventPublisher;
+    private PostImportServiceImpl service;
+
+    @BeforeAll
+    static void createValidator() {
+        validatorFactory = Validation.buildDefaultValidatorFactory();
+    }
+
+    @AfterAll
+    static void closeValidator() {
+        validatorFactory.close();
+    }
+
+    @BeforeEach
+    void setUp() {
+        userRepository = mock(UserRepository.class);
+        jdbcTemplate = mock(JdbcTemplate.class);
+        transactionTemplate = mock(TransactionTemplate.class);
+        eventPublisher = mock(ApplicationEventPublisher.class);
+        service = new PostImportServiceImpl(userRepository, jdbcTemplate, transactionTemplate,
+                validatorFactory.getValidator(), new ObjectMapper().findAndRegisterModules(), eventPublisher);
+        ReflectionTestUtils.setField(service, "chunkSize", 2);
+        ReflectionTestUtils.setField(service, "maxRows", 5);
+
+        User company = new User();
+        company.setUsername("acme");
+        company.setFullName("Acme Corp");
+        when(userRepository.findByUsername("acme")).thenReturn(Optional.of(company));
+
+        // Hands out one id block per call: 100, 150, 200, ...
+        long[] nextBlock = {100};
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), anyInt())).thenAnswer(invocation -> {
+            long start = nextBlock[0];
+            nextBlock[0] += 50;
+            return List.of(start);
+        });
+        committingTransactions(status -> { });
+    }
+
+    @Test
+    void importsJsonArrayInChunks() {
+        PostImportReport report = service.importPosts(json("[" + post("A") + "," + post("B") + "," + post("C") + "]"),
+                MediaType.APPLICATION_JSON, "acme");
+
+        assertThat(report.total()).isEqualTo(3);
+        assertThat(report.created()).isEqualTo(3);
+        assertThat(report.rows()).extracting(PostImportReport.Row::postId).containsExactly(100L, 101L, 150L);
+        verify(transactionTemplate, times(2)).executeWithoutResult(any());
+        verify(jdbcTemplate, times(2)).batchUpdate(anyString(), any(BatchPreparedStatementSetter.class));
+        verify(eventPublisher, times(3)).publishEvent(any(PostChangedEvent.class));
+    }
+
+    @Test
+    void reportsInvalidRowsAndKeepsGoing() {
+        PostImportReport report = service.importPosts(json(post("A") + "\n{\"title\":\"\"}\n"
+                        + "{\"title\":\"X\",\"applicationDeadline\":\"not a date\"}\n" + post("B")),
+                MediaType.APPLICATION_JSON, "acme");
+
+        assertThat(report.total()).isEqualTo(4);
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(report.rows()).extracting(PostImportReport.Row::row).containsExactly(1, 2, 3, 4);
+        assertThat(report.rows().get(1).errors()).contains("Title is required", "Location is required");
+        assertThat(report.rows().get(2).errors()).singleElement().asString().startsWith("Invalid post:");
+    }
+
+    @Test
+    void malformedJsonEndsTheImport() {
+        PostImportReport report = service.importPosts(json(post("A") + "\n{\"title\": oops}\n" + post("B")),
+                MediaType.APPLICATION_JSON, "acme");
+
+        assertThat(report.total()).isEqualTo(2);
+        assertThat(report.created()).isEqualTo(1);
+        assertThat(report.rows().get(1).errors()).singleElement().asString().startsWith("Malformed JSON:");
+    }
+
+    @Test
+    void stopsAtTheRowLimit() {
+        StringBuilder body = new StringBuilder();
+        for (int i = 0; i < 7; i++) {
+            body.append(post("P" + i)).append('\n');
+        }
+
+        PostImportReport report = service.importPosts(json(body.toString()), MediaType.APPLICATION_JSON, "acme");
+
+        assertThat(report.total()).isEqualTo(6);
+        assertThat(report.created()).isEqualTo(5);
+        assertThat(report.rows().get(5).errors()).containsExactly(
+                "Import is limited to 5 rows; remaining rows were not read");
+    }
+
+    @Test
+    void failedChunkIsReportedAndLaterChunksStillRun() {
+        int[] calls = {0};
+        when(jdbcTemplate.batchUpdate(anyString(), any(BatchPreparedStatementSetter.class))).thenAnswer(invocation -> {
+            if (++calls[0] == 1) {
+                throw new DataIntegrityViolationException("duplicate key");
+            }
+            return new int[0];
+        });
+
+        PostImportReport report = service.importPosts(json(post("A") + post("B") + post("C")),
+                MediaType.APPLICATION_JSON, "acme");
+
+        assertThat(report.created()).isEqualTo(1);
+        assertThat(report.failed()).isEqualTo(2);
+        assertThat(report.rows().get(0).errors()).containsExactly("Could not save this row's chunk: duplicate key");
+        assertThat(report.rows().get(2).isCreated()).isTrue();
+    }
+
+    @Test
+    void chunkThatCommittedBeforeAListenerFailedCountsAsCreated() {
+        committingTransactions(status -> TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        throw new IllegalStateException("listener failed");
+                    }
+                }));
+
+        PostImportReport report = service.importPosts(json(post("A") + post("B")), MediaType.APPLICATION_JSON, "acme");
+
+        assertThat(report.created()).isEqualTo(2);
+        assertThat(report.failed()).isZero();
+    }
+
+    @Test
+    void importsCsvWithHeaderMapping() {
+        String csv = "Title,LOCATION,jobType,experienceLevel,salaryRange,description,skillsRequired,"
+                + "qualifications,applicationDeadline,contactEmail,unknown\n"
+                + "\"Dev, Backend\",Pune,Full-time,Mid,10-20,Build things,Java; Spring ;,B.Tech,2030-01-01,"
+                + "jobs@acme.com,ignored\n"
+                + "Tester,Pune,Full-time,Mid,10-20,Test things,,B.Tech,2030-01-01,jobs@acme.com,\n";
+
+        PostImportReport report = service.importPosts(json(csv), TEXT_CSV, "acme");
+
+        assertThat(report.created()).isEqualTo(1);
+        assertThat(report.rows().get(1).errors()).containsExactly("Skills are required");
+        ArgumentCaptor<List<Object[]>> skills = ArgumentCaptor.captor();
+        verify(jdbcTemplate).batchUpdate(anyString(), skills.capture());
+        assertThat(skills.getValue()).containsExactly(new Object[]{100L, "Java"}, new Object[]{100L, "Spring"});
+    }
+
+    @Test
+    void unknownCompanyIsRejected() {
+        assertThatThrownBy(() -> service.importPosts(json("[]"), MediaType.APPLICATION_JSON, "nobody"))
+                .isInstanceOf(UserException.class);
+        verify(transactionTemplate, never()).executeWithoutResult(any());
+    }
+
+    /**
+     * Runs each chunk with synchronization active and fires afterCommit, as a real
+     * transaction would.
+     */
+    @SuppressWarnings("unchecked")
+    private void committingTransactions(Consumer<TransactionStatus> beforeCallback) {
+        doAnswer(invocation -> {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                TransactionStatus status = mock(TransactionStatus.class);
+                beforeCallback.accept(status);
+                invocation.<Consumer<TransactionStatus>>getArgument(0).accept(status);
+                for (TransactionSynchronization synchronization
+                        : TransactionSynchronizationManager.getSynchronizations()) {
+                    synchronization.afterCommit();
+                }
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any(Consumer.class));
+    }
+
+    private static String post(String title) {
+        return "{\"title\":\"" + title + "\",\"location\":\"Pune\",\"jobType\":\"Full-time\","
+                + "\"experienceLevel\":\"Mid\",\"salaryRange\":\"10-20\",\"description\":\"Work\","
+                + "\"skillsRequired\":[\"Java\"],\"qualifications\":\"B.Tech\","
+                + "\"applicationDeadline\":\"2030-01-01\",\"contactEmail\":\"jobs@acme.com\"}";
+    }
+
+    private static InputStream json(String body) {
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+}
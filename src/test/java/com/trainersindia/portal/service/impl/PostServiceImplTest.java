@@ -0,0 +1,141 @@
+package com.trainersindia.portal.service.impl;
+
+import com.trainersindia.portal.dto.PostSummary;
+import com.trainersindia.portal.exception.UserException;
+import com.trainersindia.portal.repository.PostRepository;
+import com.trainersindia.portal.repository.UserRepository;
+import com.trainersindia.portal.search.JobSearchCache;
+import com.trainersindia.portal.search.KeywordIndex;
+import com.trainersindia.portal.search.PostFilterIndex;
+import com.trainersindia.portal.search.SuggestionIndex;
+import com.trainersindia.portal.search.TrigramIndex;
+import com.trainersindia.portal.service.ApplicationCountService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.http.HttpStatus;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class PostServiceImplTest {
+
+    private PostRepository postRepository;
+    private KeywordIndex keywordIndex;
+    private TrigramIndex trigramIndex;
+    private PostServiceImpl service;
+
+    @BeforeEach
+    void setUp() {
+        postRepository = mock(PostRepository.class);
+        keywordIndex = mock(KeywordIndex.class);
+        trigramIndex = mock(TrigramIndex.class);
+        JobSearchCache cache = new JobSearchCache();
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttl", Duration.ofMinutes(5));
+        service = new PostServiceImpl(postRepository, mock(UserRepository.class), keywordIndex,
+                mock(PostFilterIndex.class), trigramIndex, mock(SuggestionIndex.class), cache,
+                mock(ApplicationCountService.class), mock(ApplicationEventPublisher.class));
+
+        when(postRepository.findSummariesByIdIn(anyList())).thenAnswer(invocation ->
+                invocation.<List<Long>>getArgument(0).stream().map(PostServiceImplTest::summary).toList());
+    }
+
+    @Test
+    void keywordSearchLoadsOnlyTheRequestedPage() {
+        when(keywordIndex.search("java")).thenReturn(LongStream.rangeClosed(1, 5000).boxed().toList());
+
+        Page<PostSummary> page = service.searchJobsByKeyword("java", PageRequest.of(2, 20));
+
+        assertThat(page.getTotalElements()).isEqualTo(5000);
+        assertThat(page.getContent()).extracting(PostSummary::id)
+                .containsExactlyElementsOf(LongStream.rangeClosed(41, 60).boxed().toList());
+        verify(postRepository).findSummariesByIdIn(LongStream.rangeClosed(41, 60).boxed().toList());
+    }
+
+    @Test
+    void pageSizeIsCapped() {
+        when(keywordIndex.search("java")).thenReturn(LongStream.rangeClosed(1, 5000).boxed().toList());
+
+        assertThat(service.searchJobsByKeyword("java", PageRequest.of(0, 2000)).getContent()).hasSize(100);
+    }
+
+    @Test
+    void pageBeyondTheMatchesIsEmpty() {
+        when(keywordIndex.search("java")).thenReturn(List.of(3L, 2L, 1L));
+
+        Page<PostSummary> page = service.searchJobsByKeyword("java", PageRequest.of(5, 20));
+
+        assertThat(page.getContent()).isEmpty();
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void typoFallsBackToABoundedFuzzyResult() {
+        when(keywordIndex.search("jvaa")).thenReturn(List.of());
+        when(trigramIndex.search("jvaa", 50)).thenReturn(List.of(7L, 8L, 9L));
+
+        Page<PostSummary> page = service.searchJobsByKeyword("jvaa", PageRequest.of(0, 2));
+
+        assertThat(page.getContent()).extracting(PostSummary::id).containsExactly(7L, 8L);
+        assertThat(page.getTotalElements()).isEqualTo(3);
+    }
+
+    @Test
+    void blankKeywordPagesThroughAllPosts() {
+        when(postRepository.findSummaries(isNull(), eq(Sort.by(Sort.Direction.DESC, "createdAt")), eq(40L), eq(20)))
+                .thenReturn(LongStream.rangeClosed(41, 60).mapToObj(PostServiceImplTest::summary).toList());
+        when(postRepository.count()).thenReturn(75L);
+
+        Page<PostSummary> page = service.searchJobsByKeyword("  ", PageRequest.of(2, 20));
+
+        assertThat(page.getContent()).hasSize(20);
+        assertThat(page.getTotalElements()).isEqualTo(75);
+    }
+
+    @Test
+    void unknownSortPropertyIsRejected() {
+        assertThatThrownBy(() -> service.searchJobs(null, null, null, null,
+                PageRequest.of(0, 20, Sort.by("foo"))))
+                .isInstanceOfSatisfying(UserException.class,
+                        e -> assertThat(e.getStatus()).isEqualTo(HttpStatus.BAD_REQUEST));
+        assertThatThrownBy(() -> service.searchJobs(null, null, null, null,
+                PageRequest.of(0, 20, Sort.by("title").and(Sort.by("salaryRange")))))
+                .isInstanceOf(UserException.class);
+        verify(postRepository, never()).findSummaries(any(), any(), anyLong(), anyInt());
+    }
+
+    @Test
+    void whitelistedSortGoesToTheDatabase() {
+        Sort byDeadline = Sort.by(Sort.Direction.ASC, "applicationDeadline");
+        when(postRepository.findSummaries(any(), eq(byDeadline), eq(0L), eq(20))).thenReturn(List.of(summary(1)));
+
+        Page<PostSummary> page = service.searchJobs("pune", null, null, null, PageRequest.of(0, 20, byDeadline));
+
+        assertThat(page.getContent()).extracting(PostSummary::id).containsExactly(1L);
+    }
+
+    private static PostSummary summary(long id) {
+        return new PostSummary(id, "Post " + id, "Acme", "Pune", "Full-time", "Mid", null,
+                LocalDateTime.of(2024, 1, 1, 0, 0), List.of());
+    }
+}
@@ -0,0 +1,64 @@
+package com.trainersindia.portal.util;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class CsvReaderTest {
+
+    @Test
+    void readsPlainRecords() throws IOException {
+        assertThat(readAll("a,b,c\n1,2,3\n")).containsExactly(List.of("a", "b", "c"), List.of("1", "2", "3"));
+    }
+
+    @Test
+    void keepsEmptyFields() throws IOException {
+        assertThat(readAll(",x,\n")).containsExactly(List.of("", "x", ""));
+    }
+
+    @Test
+    void quotedFieldsHoldCommasLineBreaksAndDoubledQuotes() throws IOException {
+        assertThat(readAll("\"a,b\",\"line1\nline2\",\"say \"\"hi\"\"\"\n"))
+                .containsExactly(List.of("a,b", "line1\nline2", "say \"hi\""));
+    }
+
+    @Test
+    void acceptsCrLfAndBareCrLineEndings() throws IOException {
+        assertThat(readAll("a,b\r\nc,d\re,f")).containsExactly(List.of("a", "b"), List.of("c", "d"), List.of("e", "f"));
+    }
+
+    @Test
+    void skipsBlankLines() throws IOException {
+        assertThat(readAll("\n\na\n\r\n\nb\n\n")).containsExactly(List.of("a"), List.of("b"));
+    }
+
+    @Test
+    void lastRecordNeedsNoLineBreak() throws IOException {
+        assertThat(readAll("a,\"b\"")).containsExactly(List.of("a", "b"));
+    }
+
+    @Test
+    void emptyQuotedFieldIsARecord() throws IOException {
+        assertThat(readAll("\"\"\n")).containsExactly(List.of(""));
+    }
+
+    @Test
+    void emptyInputHasNoRecords() throws IOException {
+        assertThat(readAll("")).isEmpty();
+    }
+
+    private static List<List<String>> readAll(String csv) throws IOException {
+        CsvReader reader = new CsvReader(new StringReader(csv));
+        List<List<String>> records = new ArrayList<>();
+        List<String> record;
+        while ((record = reader.readRecord()) != null) {
+            records.add(record);
+        }
+        return records;
+    }
+}